@@ -31,6 +31,7 @@ import android.graphics.drawable.Drawable;
 import android.graphics.drawable.InsetDrawable;
 import android.os.Build;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.support.v4.graphics.drawable.DrawableCompat;
 import android.util.AttributeSet;
 
@@ -43,6 +44,13 @@ import java.io.IOException;
 
 /**
  * A {@link android.graphics.drawable.Drawable} implementation which can be used to wrap another instance of Drawable.
+ * <p>
+ * Constant state of the wrapper, returned via {@link #getConstantState()}, shares the constant state
+ * of the wrapped drawable, so all wrappers created from such state share also the backing state of
+ * their wrapped drawables until they are {@link #mutate() mutated}. If the wrapped drawable does not
+ * provide its constant state, the wrapper does not provide one either. The constant state is also
+ * not provided by subclasses which do not provide their own constant state implementation, as
+ * such state could not create instances of those subclasses.
  *
  * @author Martin Albedinsky
  */
@@ -79,6 +87,11 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 	 */
 	private boolean mMutated;
 
+	/**
+	 * Constant state of this drawable wrapper.
+	 */
+	WrapperState mWrapperState;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -89,6 +102,44 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 	 * @param drawable The drawable to wrap.
 	 */
 	public DrawableWrapper(@NonNull Drawable drawable) {
+		this(new WrapperState(), drawable);
+	}
+
+	/**
+	 * Creates a new instance of DrawableWrapper which wraps the given <var>drawable</var> and
+	 * stores its data in the specified new <var>state</var>.
+	 *
+	 * @param state    The new constant state for the drawable wrapper.
+	 * @param drawable The drawable to wrap.
+	 */
+	DrawableWrapper(@NonNull WrapperState state, @NonNull Drawable drawable) {
+		this.mWrapperState = state;
+		state.drawableState = drawable.getConstantState();
+		attachDrawable(drawable);
+	}
+
+	/**
+	 * Creates a new instance of DrawableWrapper from the specified <var>state</var>.
+	 *
+	 * @param state The state from which to create the new drawable wrapper instance.
+	 * @param res   An application resources.
+	 * @param theme A theme to be applied to the new wrapped drawable instance.
+	 */
+	DrawableWrapper(@NonNull WrapperState state, @Nullable Resources res, @Nullable Resources.Theme theme) {
+		this.mWrapperState = state;
+		attachDrawable(state.newWrappedDrawable(res, theme));
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Attaches the given <var>drawable</var> to this wrapper as the wrapped one.
+	 *
+	 * @param drawable The drawable to be wrapped.
+	 */
+	private void attachDrawable(Drawable drawable) {
 		this.mDrawable = drawable;
 
 		/**
@@ -108,10 +159,6 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 		mDrawable.setCallback(this);
 	}
 
-	/*
-	 * Methods =====================================================================================
-	 */
-
 	/**
 	 */
 	@Override
@@ -143,7 +190,9 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 	@Override
 	public Drawable mutate() {
 		if (!mMutated && super.mutate() == this) {
+			this.mWrapperState = mWrapperState.copy();
 			this.mDrawable = mDrawable.mutate();
+			mWrapperState.drawableState = mDrawable.getConstantState();
 			this.mMutated = true;
 		}
 		return this;
@@ -410,7 +459,11 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 	 */
 	@Override
 	public ConstantState getConstantState() {
-		return mDrawable.getConstantState();
+		if (mWrapperState.canConstantState() && mWrapperState.getDrawableClass() == getClass()) {
+			mWrapperState.changingConfigurations = getChangingConfigurations();
+			return mWrapperState;
+		}
+		return null;
 	}
 
 	/**
@@ -462,4 +515,121 @@ public class DrawableWrapper extends Drawable implements Drawable.Callback {
 	/*
 	 * Inner classes ===============================================================================
 	 */
+
+	/**
+	 * Constant state implementation for this drawable class.
+	 */
+	static class WrapperState extends ConstantState {
+
+		/**
+		 * Constant state of the wrapped drawable.
+		 */
+		ConstantState drawableState;
+
+		/**
+		 */
+		int changingConfigurations;
+
+		/**
+		 * Creates a new instance of empty WrapperState.
+		 */
+		WrapperState() {
+		}
+
+		/**
+		 * Creates a new instance of WrapperState with parameters copied from the specified <var>state</var>.
+		 *
+		 * @param state The state from which to create the new one.
+		 */
+		WrapperState(@NonNull WrapperState state) {
+			this.drawableState = state.drawableState;
+			this.changingConfigurations = state.changingConfigurations;
+		}
+
+		/**
+		 * Returns a boolean flag indicating whether new drawables can be created from this state or
+		 * not.
+		 *
+		 * @return {@code True} if the wrapped drawable provides its constant state, {@code false}
+		 * otherwise.
+		 */
+		boolean canConstantState() {
+			return drawableState != null;
+		}
+
+		/**
+		 * Creates a copy of this state which may be modified without affecting this state.
+		 *
+		 * @return New state with parameters copied from this one.
+		 */
+		@NonNull
+		WrapperState copy() {
+			return new WrapperState(this);
+		}
+
+		/**
+		 * Returns the class of drawables created by this state.
+		 *
+		 * @return Class of drawables created via {@link #newDrawable()}.
+		 */
+		@NonNull
+		Class<? extends DrawableWrapper> getDrawableClass() {
+			return DrawableWrapper.class;
+		}
+
+		/**
+		 * Creates a new instance of the wrapped drawable from its constant state.
+		 *
+		 * @param res   An application resources.
+		 * @param theme A theme to be applied to the new drawable instance.
+		 * @return New drawable sharing constant state with the wrapped drawable.
+		 */
+		@NonNull
+		@SuppressLint("NewApi")
+		Drawable newWrappedDrawable(@Nullable Resources res, @Nullable Resources.Theme theme) {
+			if (theme != null && UiConfig.MATERIALIZED) {
+				return drawableState.newDrawable(res, theme);
+			}
+			return res == null ? drawableState.newDrawable() : drawableState.newDrawable(res);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable() {
+			return new DrawableWrapper(this, null, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res) {
+			return new DrawableWrapper(this, res, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res, Resources.Theme theme) {
+			return new DrawableWrapper(this, res, theme);
+		}
+
+		/**
+		 */
+		@Override
+		@SuppressLint("NewApi")
+		public boolean canApplyTheme() {
+			return UiConfig.MATERIALIZED && drawableState != null && drawableState.canApplyTheme();
+		}
+
+		/**
+		 */
+		@Override
+		public int getChangingConfigurations() {
+			return changingConfigurations | (drawableState != null ? drawableState.getChangingConfigurations() : 0);
+		}
+	}
 }
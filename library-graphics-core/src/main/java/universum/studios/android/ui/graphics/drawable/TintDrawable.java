@@ -19,18 +19,24 @@
 package universum.studios.android.ui.graphics.drawable;
 
 import android.content.res.ColorStateList;
+import android.content.res.Resources;
+import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.ColorFilter;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffColorFilter;
 import android.graphics.drawable.Drawable;
-import android.os.Build;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 /**
  * A {@link DrawableWrapper} implementation used to support tinting of a Drawable for the pre
  * {@link android.os.Build.VERSION_CODES#LOLLIPOP LOLLIPOP} Android versions.
+ * <p>
+ * Tint is applied to the wrapped drawable only while it is being drawn, so tint drawables created
+ * from the same {@link #getConstantState() constant state} share the backing state of the wrapped
+ * drawable along with the tint list and tint mode even when they are tinted. The wrapped drawable
+ * is mutated only when a color filter, alpha, dither or filter bitmap is explicitly set to it.
  *
  * @author Martin Albedinsky
  */
@@ -64,6 +70,16 @@ public class TintDrawable extends DrawableWrapper {
 	 */
 	static final int PFLAG_TINT_COLOR_CACHING_ENABLED = 0x00000001 << 1;
 
+	/**
+	 * Flag indicating whether the wrapped drawable has been already mutated or not.
+	 */
+	static final int PFLAG_DRAWABLE_MUTATED = 0x00000001 << 2;
+
+	/**
+	 * Flag indicating whether this drawable is drawing the wrapped drawable with its tint applied.
+	 */
+	static final int PFLAG_DRAWING_TINT = 0x00000001 << 3;
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -73,19 +89,15 @@ public class TintDrawable extends DrawableWrapper {
 	 */
 
 	/**
-	 * Set of tint colors used to tint graphics of this drawable.
-	 */
-	private ColorStateList mTintList;
-
-	/**
-	 * Blending mode used when applying tint to graphics of this drawable.
+	 * Current tint color applied to graphics of this drawable.
 	 */
-	private PorterDuff.Mode mTintMode = PorterDuff.Mode.SRC_IN;
+	private int mCurrentTint = Color.TRANSPARENT;
 
 	/**
-	 * Current tint color applied to graphics of this drawable.
+	 * Shared color filter with the current tint color applied to the wrapped drawable while it is
+	 * being drawn. May be {@code null} if there is no tint to be applied.
 	 */
-	private int mCurrentTint = Color.TRANSPARENT;
+	private PorterDuffColorFilter mTintFilter;
 
 	/**
 	 * Set of private flags.
@@ -116,41 +128,149 @@ public class TintDrawable extends DrawableWrapper {
 	 *                       {@code false} otherwise.
 	 */
 	public TintDrawable(@NonNull Drawable drawable, boolean cacheTintColor) {
-		super(drawable);
-		if (Build.VERSION.SDK_INT > Build.VERSION_CODES.GINGERBREAD_MR1) {
-			// fixme: Unfortunately on pre GINGERBREAD_MR1 (including), mutating the drawable disables
-			// fixme: somehow ??? its drawing.
-			mutate();
-		}
+		this(new TintState(), drawable, cacheTintColor);
+	}
+
+	/**
+	 * Creates a new instance of TintDrawable to wrap the given <var>drawable</var> and store its
+	 * data in the specified new <var>state</var>.
+	 *
+	 * @param state          The new constant state for the tint drawable.
+	 * @param drawable       Drawable to wrap and apply tint to.
+	 * @param cacheTintColor {@code True} if current tint color should be always saved (for performance),
+	 *                       {@code false} otherwise.
+	 */
+	TintDrawable(@NonNull TintState state, @NonNull Drawable drawable, boolean cacheTintColor) {
+		super(state, drawable);
+		state.tintColorCachingEnabled = cacheTintColor;
 		this.updatePrivateFlags(PFLAG_TINT_COLOR_CACHING_ENABLED, cacheTintColor);
 	}
 
+	/**
+	 * Creates a new instance of TintDrawable from the specified <var>state</var>.
+	 *
+	 * @param state The state from which to create the new tint drawable instance.
+	 * @param res   An application resources.
+	 * @param theme A theme to be applied to the new wrapped drawable instance.
+	 */
+	TintDrawable(@NonNull TintState state, @Nullable Resources res, @Nullable Resources.Theme theme) {
+		super(state, res, theme);
+		this.updatePrivateFlags(PFLAG_TINT_COLOR_CACHING_ENABLED, state.tintColorCachingEnabled);
+		this.updateTint(getState());
+	}
+
 	/*
 	 * Methods =====================================================================================
 	 */
 
 	/**
-	 * Crates a new instance of PorterDuffColorFilter with color obtained from the specified <var>tint</var>
+	 * Obtains an instance of PorterDuffColorFilter with color obtained from the specified <var>tint</var>
 	 * colors for the current state of the specified <var>drawable</var>.
 	 *
 	 * @param drawable The drawable used to resolve proper tint color based on its current state.
 	 * @param tint     Set of available tint colors.
-	 * @param tintMode Blending mode for the new color filter.
-	 * @return New PorterDuffColorFilter with the resolved color and the specified <var>tintMode</var>.
+	 * @param tintMode Blending mode for the color filter.
+	 * @return Shared PorterDuffColorFilter with the resolved color and the specified <var>tintMode</var>.
+	 * @see TintFilterPool#obtain(int, PorterDuff.Mode)
 	 */
 	@Nullable
 	public static PorterDuffColorFilter createTintFilter(@NonNull Drawable drawable, @Nullable ColorStateList tint, @Nullable PorterDuff.Mode tintMode) {
 		if (tint == null || tintMode == null) {
 			return null;
 		}
-		return new PorterDuffColorFilter(tint.getColorForState(drawable.getState(), Color.TRANSPARENT), tintMode);
+		return TintFilterPool.obtain(tint.getColorForState(drawable.getState(), Color.TRANSPARENT), tintMode);
+	}
+
+	/**
+	 * Returns the constant state of this drawable holding tint list and tint mode.
+	 *
+	 * @return This drawable's tint state.
+	 */
+	final TintState getTintState() {
+		return (TintState) mWrapperState;
+	}
+
+	/**
+	 */
+	@Override
+	public Drawable mutate() {
+		if (super.mutate() == this) {
+			updatePrivateFlags(PFLAG_DRAWABLE_MUTATED, true);
+		}
+		return this;
+	}
+
+	/**
+	 * Ensures that the wrapped drawable is mutated, so any changes made to it will not affect other
+	 * drawables that share the same constant state with it. The whole tint drawable is mutated, so
+	 * its constant state references the constant state of the mutated drawable.
+	 */
+	final void ensureDrawableMutated() {
+		if ((mPrivateFlags & PFLAG_DRAWABLE_MUTATED) == 0) {
+			mutate();
+		}
+	}
+
+	/**
+	 */
+	@Override
+	public void draw(Canvas canvas) {
+		if (mTintFilter == null || (mPrivateFlags & PFLAG_HAS_COLOR_FILTER) != 0) {
+			super.draw(canvas);
+			return;
+		}
+		// Apply tint only for the time of drawing, so the backing state of the wrapped drawable,
+		// which may be shared with other drawables, does not need to be mutated.
+		final ColorFilter colorFilter = getColorFilter();
+		this.updatePrivateFlags(PFLAG_DRAWING_TINT, true);
+		mDrawable.setColorFilter(mTintFilter);
+		mDrawable.draw(canvas);
+		mDrawable.setColorFilter(colorFilter);
+		this.updatePrivateFlags(PFLAG_DRAWING_TINT, false);
+	}
+
+	/**
+	 */
+	@Override
+	public void invalidateDrawable(Drawable who) {
+		// Ignore invalidation caused by applying of tint while drawing.
+		if ((mPrivateFlags & PFLAG_DRAWING_TINT) == 0) {
+			super.invalidateDrawable(who);
+		}
 	}
 
 	/**
 	 */
 	@Override
 	public boolean isStateful() {
-		return super.isStateful() || (mTintList != null && mTintList.isStateful());
+		final ColorStateList tintList = getTintState().tintList;
+		return super.isStateful() || (tintList != null && tintList.isStateful());
+	}
+
+	/**
+	 */
+	@Override
+	public void setAlpha(int alpha) {
+		ensureDrawableMutated();
+		super.setAlpha(alpha);
+	}
+
+	/**
+	 */
+	@Override
+	@Deprecated
+	@SuppressWarnings("deprecation")
+	public void setDither(boolean dither) {
+		ensureDrawableMutated();
+		super.setDither(dither);
+	}
+
+	/**
+	 */
+	@Override
+	public void setFilterBitmap(boolean filter) {
+		ensureDrawableMutated();
+		super.setFilterBitmap(filter);
 	}
 
 	/**
@@ -172,7 +292,7 @@ public class TintDrawable extends DrawableWrapper {
 	 */
 	@Override
 	public void setTintList(@Nullable ColorStateList tint) {
-		this.mTintList = tint;
+		getTintState().tintList = tint;
 		this.invalidateTint();
 	}
 
@@ -180,7 +300,7 @@ public class TintDrawable extends DrawableWrapper {
 	 */
 	@Override
 	public void setTintMode(@Nullable PorterDuff.Mode tintMode) {
-		this.mTintMode = tintMode;
+		getTintState().tintMode = tintMode;
 		this.invalidateTint();
 	}
 
@@ -200,6 +320,7 @@ public class TintDrawable extends DrawableWrapper {
 	@Override
 	public void setColorFilter(ColorFilter cf) {
 		updatePrivateFlags(PFLAG_HAS_COLOR_FILTER, cf != null);
+		if (cf != null) ensureDrawableMutated();
 		super.setColorFilter(cf);
 	}
 
@@ -212,22 +333,26 @@ public class TintDrawable extends DrawableWrapper {
 	}
 
 	/**
-	 * Updates tint of the wrapped drawable depends on the specified <var>stateSet</var>.
+	 * Updates the tint color filter applied to the wrapped drawable in {@link #draw(Canvas)}
+	 * depends on the specified <var>stateSet</var>.
 	 *
 	 * @param stateSet State set to properly resolve tint color.
 	 * @return {@code True} if tint has ben updated, {@code false} otherwise.
 	 */
 	private boolean updateTint(int[] stateSet) {
-		if ((mPrivateFlags & PFLAG_HAS_COLOR_FILTER) == 0) {
-			if (mTintList != null && mTintMode != null) {
-				final int tintColor = mTintList.getColorForState(stateSet, mCurrentTint);
-				if (tintColor != mCurrentTint || (mPrivateFlags & PFLAG_TINT_COLOR_CACHING_ENABLED) == 0) {
-					super.setColorFilter(new PorterDuffColorFilter(tintColor, mTintMode));
-					this.mCurrentTint = tintColor;
-				}
-			} else {
-				super.clearColorFilter();
-			}
+		final TintState tintState = getTintState();
+		final ColorStateList tintList = tintState.tintList;
+		final PorterDuff.Mode tintMode = tintState.tintMode;
+		if (tintList == null || tintMode == null) {
+			final boolean updated = mTintFilter != null;
+			this.mTintFilter = null;
+			return updated;
+		}
+		final int tintColor = tintList.getColorForState(stateSet, mCurrentTint);
+		if (mTintFilter == null || tintColor != mCurrentTint || (mPrivateFlags & PFLAG_TINT_COLOR_CACHING_ENABLED) == 0) {
+			this.mTintFilter = TintFilterPool.obtain(tintColor, tintMode);
+			this.mCurrentTint = tintColor;
+			return true;
 		}
 		return false;
 	}
@@ -259,4 +384,83 @@ public class TintDrawable extends DrawableWrapper {
 	/*
 	 * Inner classes ===============================================================================
 	 */
+
+	/**
+	 * Constant state implementation for this drawable class.
+	 */
+	static class TintState extends WrapperState {
+
+		/**
+		 * Set of tint colors used to tint graphics of tint drawable.
+		 */
+		ColorStateList tintList;
+
+		/**
+		 * Blending mode used when applying tint to graphics of tint drawable.
+		 */
+		PorterDuff.Mode tintMode = DEFAULT_TINT_MODE;
+
+		/**
+		 * Boolean flag indicating whether tint drawable should cache its current tint color or not.
+		 */
+		boolean tintColorCachingEnabled = true;
+
+		/**
+		 * Creates a new instance of empty TintState.
+		 */
+		TintState() {
+		}
+
+		/**
+		 * Creates a new instance of TintState with parameters copied from the specified <var>state</var>.
+		 *
+		 * @param state The state from which to create the new one.
+		 */
+		TintState(@NonNull TintState state) {
+			super(state);
+			this.tintList = state.tintList;
+			this.tintMode = state.tintMode;
+			this.tintColorCachingEnabled = state.tintColorCachingEnabled;
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		TintState copy() {
+			return new TintState(this);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		Class<? extends DrawableWrapper> getDrawableClass() {
+			return TintDrawable.class;
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable() {
+			return new TintDrawable(this, null, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res) {
+			return new TintDrawable(this, res, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res, Resources.Theme theme) {
+			return new TintDrawable(this, res, theme);
+		}
+	}
 }
@@ -0,0 +1,128 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.support.annotation.NonNull;
+import android.util.SparseArray;
+
+/**
+ * A pool of shared {@link PorterDuffColorFilter} instances used to apply tint to drawables. Color
+ * filters are pooled by their color and blending mode, so changing tint of a drawable to a color
+ * which has been already used for the same blending mode does not allocate a new color filter.
+ * <p>
+ * Instances of PorterDuffColorFilter cannot be modified via public API, thus a single color filter
+ * may be safely set to multiple drawables at the same time.
+ *
+ * @author Martin Albedinsky
+ */
+public final class TintFilterPool {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "TintFilterPool";
+
+	/**
+	 * Maximum count of color filters pooled for a single blending mode. When this count is reached,
+	 * all color filters pooled for that mode are released.
+	 */
+	public static final int MAX_FILTERS_PER_MODE = 32;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Arrays with pooled color filters mapped to their colors. Index of each array corresponds to
+	 * ordinal of blending mode of the color filters which it contains.
+	 */
+	@SuppressWarnings("unchecked")
+	private static final SparseArray<PorterDuffColorFilter>[] FILTERS = new SparseArray[PorterDuff.Mode.values().length];
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private TintFilterPool() {
+		// Creation of instances of this class is not publicly allowed.
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a color filter with the specified <var>color</var> and <var>mode</var> from this pool.
+	 * If there is no such color filter pooled yet, a new one is created and pooled.
+	 *
+	 * @param color The desired color of the color filter.
+	 * @param mode  The desired blending mode of the color filter.
+	 * @return Shared PorterDuffColorFilter instance.
+	 */
+	@NonNull
+	public static PorterDuffColorFilter obtain(int color, @NonNull PorterDuff.Mode mode) {
+		synchronized (FILTERS) {
+			final int modeIndex = mode.ordinal();
+			SparseArray<PorterDuffColorFilter> filters = FILTERS[modeIndex];
+			if (filters == null) {
+				filters = FILTERS[modeIndex] = new SparseArray<>(MAX_FILTERS_PER_MODE);
+			}
+			PorterDuffColorFilter filter = filters.get(color);
+			if (filter == null) {
+				if (filters.size() >= MAX_FILTERS_PER_MODE) {
+					filters.clear();
+				}
+				filter = new PorterDuffColorFilter(color, mode);
+				filters.put(color, filter);
+			}
+			return filter;
+		}
+	}
+
+	/**
+	 * Releases all color filters pooled in this pool.
+	 */
+	public static void clear() {
+		synchronized (FILTERS) {
+			for (final SparseArray<PorterDuffColorFilter> filters : FILTERS) {
+				if (filters != null) filters.clear();
+			}
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
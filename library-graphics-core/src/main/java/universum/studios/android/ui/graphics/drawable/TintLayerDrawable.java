@@ -19,16 +19,17 @@
 package universum.studios.android.ui.graphics.drawable;
 
 import android.content.res.ColorStateList;
+import android.content.res.Resources;
 import android.graphics.Color;
 import android.graphics.ColorFilter;
 import android.graphics.PorterDuff;
-import android.graphics.PorterDuffColorFilter;
 import android.graphics.Rect;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.LayerDrawable;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.util.SparseArray;
+import android.util.SparseIntArray;
 
 /**
  * A {@link TintDrawable} implementation used to support tinting of {@link android.graphics.drawable.LayerDrawable},
@@ -72,9 +73,9 @@ public class TintLayerDrawable extends TintDrawable {
 	 */
 
 	/**
-	 * Array with tint options for all layers of the wrapped LayerDrawable.
+	 * Array with current tint colors applied to layers of the wrapped LayerDrawable.
 	 */
-	private SparseArray<DrawableLayerTint> mDrawableLayerTints;
+	private SparseIntArray mCurrentLayerTints;
 
 	/*
 	 * Constructors ================================================================================
@@ -89,13 +90,35 @@ public class TintLayerDrawable extends TintDrawable {
 	 * @see #setTintMode(PorterDuff.Mode, int)
 	 */
 	public TintLayerDrawable(@NonNull LayerDrawable drawable) {
-		super(drawable);
+		super(new TintLayerState(), drawable, true);
+	}
+
+	/**
+	 * Creates a new instance of TintLayerDrawable from the specified <var>state</var>.
+	 *
+	 * @param state The state from which to create the new tint drawable instance.
+	 * @param res   An application resources.
+	 * @param theme A theme to be applied to the new wrapped drawable instance.
+	 */
+	TintLayerDrawable(@NonNull TintLayerState state, @Nullable Resources res, @Nullable Resources.Theme theme) {
+		super(state, res, theme);
+		this.updateDrawableLayerTints(getState());
 	}
 
 	/*
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Returns the constant state of this drawable holding tint options for layers of the wrapped
+	 * LayerDrawable.
+	 *
+	 * @return This drawable's tint layer state.
+	 */
+	private TintLayerState getTintLayerState() {
+		return (TintLayerState) mWrapperState;
+	}
+
 	/**
 	 */
 	@Override
@@ -109,12 +132,13 @@ public class TintLayerDrawable extends TintDrawable {
 	 */
 	@Override
 	public boolean isStateful() {
-		if (mDrawableLayerTints == null) {
+		final SparseArray<DrawableLayerTint> layerTints = getTintLayerState().layerTints;
+		if (layerTints == null) {
 			return super.isStateful();
 		}
 
-		for (int i = 0; i < mDrawableLayerTints.size(); i++) {
-			final ColorStateList tintList = mDrawableLayerTints.valueAt(i).tintList;
+		for (int i = 0; i < layerTints.size(); i++) {
+			final ColorStateList tintList = layerTints.valueAt(i).tintList;
 			if (tintList != null && tintList.isStateful()) {
 				return true;
 			}
@@ -154,19 +178,7 @@ public class TintLayerDrawable extends TintDrawable {
 	 * @see #setTintMode(PorterDuff.Mode, int)
 	 */
 	public void setTintList(@Nullable ColorStateList tint, int layerId) {
-		this.ensureLayerTints();
-
-		DrawableLayerTint layerTint = mDrawableLayerTints.get(layerId);
-		if (layerTint != null) {
-			layerTint.tintList = tint;
-			layerTint.currentTint = Color.TRANSPARENT;
-			invalidateDrawableLayerTint(layerId);
-			return;
-		}
-
-		layerTint = new DrawableLayerTint();
-		layerTint.tintList = tint;
-		mDrawableLayerTints.put(layerId, layerTint);
+		this.obtainLayerTint(layerId).tintList = tint;
 		invalidateDrawableLayerTint(layerId);
 	}
 
@@ -179,27 +191,26 @@ public class TintLayerDrawable extends TintDrawable {
 	 * @param layerId  Id of the drawable layer which should be tinted using the specified tint mode.
 	 */
 	public void setTintMode(@Nullable PorterDuff.Mode tintMode, int layerId) {
-		this.ensureLayerTints();
-
-		DrawableLayerTint layerTint = mDrawableLayerTints.get(layerId);
-		if (layerTint != null) {
-			layerTint.tintMode = tintMode;
-			layerTint.currentTint = Color.TRANSPARENT;
-			invalidateDrawableLayerTint(layerId);
-			return;
-		}
-
-		layerTint = new DrawableLayerTint();
-		layerTint.tintMode = tintMode;
-		mDrawableLayerTints.put(layerId, layerTint);
+		this.obtainLayerTint(layerId).tintMode = tintMode;
 		invalidateDrawableLayerTint(layerId);
 	}
 
 	/**
-	 * Ensures that the layer tints array is initialized.
+	 * Obtains tint options for a drawable layer with the specified <var>layerId</var>. If there
+	 * are no tint options for such layer yet, new ones are created.
+	 *
+	 * @param layerId Id of the drawable layer for which to obtain its tint options.
+	 * @return Tint options of the requested layer.
 	 */
-	private void ensureLayerTints() {
-		if (mDrawableLayerTints == null) this.mDrawableLayerTints = new SparseArray<>();
+	private DrawableLayerTint obtainLayerTint(int layerId) {
+		final TintLayerState state = getTintLayerState();
+		if (state.layerTints == null) state.layerTints = new SparseArray<>();
+		DrawableLayerTint layerTint = state.layerTints.get(layerId);
+		if (layerTint == null) {
+			layerTint = new DrawableLayerTint();
+			state.layerTints.put(layerId, layerTint);
+		}
+		return layerTint;
 	}
 
 	/**
@@ -209,6 +220,7 @@ public class TintLayerDrawable extends TintDrawable {
 	 *                state of this drawable.
 	 */
 	private void invalidateDrawableLayerTint(int layerId) {
+		if (mCurrentLayerTints != null) mCurrentLayerTints.delete(layerId);
 		updateDrawableLayerTint(layerId, getState());
 		invalidateSelf();
 	}
@@ -258,10 +270,11 @@ public class TintLayerDrawable extends TintDrawable {
 	 * @return {@code True} if tint of at least one layer has been updated, {@code false} otherwise.
 	 */
 	private boolean updateDrawableLayerTints(int[] stateSet) {
-		if (mDrawableLayerTints != null) {
+		final SparseArray<DrawableLayerTint> layerTints = getTintLayerState().layerTints;
+		if (layerTints != null) {
 			boolean updated = false;
-			for (int i = 0; i < mDrawableLayerTints.size(); i++) {
-				updated |= updateDrawableLayerTint(mDrawableLayerTints.keyAt(i), stateSet);
+			for (int i = 0; i < layerTints.size(); i++) {
+				updated |= updateDrawableLayerTint(layerTints.keyAt(i), stateSet);
 			}
 			return updated;
 		}
@@ -283,15 +296,19 @@ public class TintLayerDrawable extends TintDrawable {
 				return false;
 			}
 
-			final DrawableLayerTint layerTint = mDrawableLayerTints != null ? mDrawableLayerTints.get(layerId) : null;
+			final SparseArray<DrawableLayerTint> layerTints = getTintLayerState().layerTints;
+			final DrawableLayerTint layerTint = layerTints != null ? layerTints.get(layerId) : null;
 			if (layerTint != null && layerTint.tintList != null && layerTint.tintMode != null) {
-				final int tintColor = layerTint.tintList.getColorForState(stateSet, layerTint.currentTint);
-
-				if (tintColor != layerTint.currentTint || (mPrivateFlags & PFLAG_TINT_COLOR_CACHING_ENABLED) == 0) {
-					drawable.setColorFilter(new PorterDuffColorFilter(tintColor, layerTint.tintMode));
-					layerTint.currentTint = tintColor;
+				if (mCurrentLayerTints == null) this.mCurrentLayerTints = new SparseIntArray();
+				final int currentTint = mCurrentLayerTints.get(layerId, Color.TRANSPARENT);
+				final int tintColor = layerTint.tintList.getColorForState(stateSet, currentTint);
+
+				if (tintColor != currentTint || (mPrivateFlags & PFLAG_TINT_COLOR_CACHING_ENABLED) == 0) {
+					ensureDrawableMutated();
+					drawable.setColorFilter(TintFilterPool.obtain(tintColor, layerTint.tintMode));
+					mCurrentLayerTints.put(layerId, tintColor);
 				}
-			} else {
+			} else if ((mPrivateFlags & PFLAG_DRAWABLE_MUTATED) != 0) {
 				drawable.clearColorFilter();
 			}
 			return true;
@@ -303,6 +320,82 @@ public class TintLayerDrawable extends TintDrawable {
 	 * Inner classes ===============================================================================
 	 */
 
+	/**
+	 * Constant state implementation for this drawable class.
+	 */
+	static final class TintLayerState extends TintState {
+
+		/**
+		 * Array with tint options for all layers of the wrapped LayerDrawable.
+		 */
+		SparseArray<DrawableLayerTint> layerTints;
+
+		/**
+		 * Creates a new instance of empty TintLayerState.
+		 */
+		TintLayerState() {
+		}
+
+		/**
+		 * Creates a new instance of TintLayerState with parameters copied from the specified <var>state</var>.
+		 *
+		 * @param state The state from which to create the new one.
+		 */
+		TintLayerState(@NonNull TintLayerState state) {
+			super(state);
+			if (state.layerTints != null) {
+				final int n = state.layerTints.size();
+				this.layerTints = new SparseArray<>(n);
+				for (int i = 0; i < n; i++) {
+					final DrawableLayerTint layerTint = new DrawableLayerTint();
+					layerTint.tintList = state.layerTints.valueAt(i).tintList;
+					layerTint.tintMode = state.layerTints.valueAt(i).tintMode;
+					this.layerTints.put(state.layerTints.keyAt(i), layerTint);
+				}
+			}
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		TintLayerState copy() {
+			return new TintLayerState(this);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		Class<? extends DrawableWrapper> getDrawableClass() {
+			return TintLayerDrawable.class;
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable() {
+			return new TintLayerDrawable(this, null, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res) {
+			return new TintLayerDrawable(this, res, null);
+		}
+
+		/**
+		 */
+		@NonNull
+		@Override
+		public Drawable newDrawable(Resources res, Resources.Theme theme) {
+			return new TintLayerDrawable(this, res, theme);
+		}
+	}
+
 	/**
 	 * Holder for drawable layer tint options.
 	 */
@@ -317,10 +410,5 @@ public class TintLayerDrawable extends TintDrawable {
 		 * Blending mode used when applying tint to graphics of a specific drawable layer.
 		 */
 		PorterDuff.Mode tintMode = PorterDuff.Mode.SRC_IN;
-
-		/**
-		 * Current tint color applied to graphics of a specific drawable layer.
-		 */
-		int currentTint = Color.TRANSPARENT;
 	}
 }
@@ -0,0 +1,92 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.content.res.ColorStateList;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+
+import org.junit.Test;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class TintDrawableTest extends RobolectricTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "TintDrawableTest";
+
+	private static final int[] STATE_NORMAL = {};
+	private static final int[] STATE_PRESSED = {android.R.attr.state_pressed};
+
+	private static final ColorStateList TINT_LIST = new ColorStateList(
+			new int[][]{STATE_PRESSED, STATE_NORMAL},
+			new int[]{Color.RED, Color.BLUE}
+	);
+
+	@Test
+	public void testTintedDrawablesShareWrappedState() {
+		final TintDrawable drawable = new TintDrawable(new ColorDrawable(Color.WHITE));
+		drawable.setTintList(TINT_LIST);
+		final Drawable.ConstantState state = drawable.getConstantState();
+		final TintDrawable first = (TintDrawable) state.newDrawable();
+		final TintDrawable second = (TintDrawable) state.newDrawable();
+		first.setState(STATE_PRESSED);
+		second.setState(STATE_PRESSED);
+		assertThat(first.mDrawable.getConstantState(), sameInstance(second.mDrawable.getConstantState()));
+		final Canvas canvas = new Canvas(Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888));
+		first.setBounds(0, 0, 10, 10);
+		first.draw(canvas);
+		second.setState(STATE_NORMAL);
+		second.draw(canvas);
+		assertThat(first.mDrawable.getConstantState(), sameInstance(second.mDrawable.getConstantState()));
+		assertThat(first.getConstantState(), sameInstance(second.getConstantState()));
+	}
+
+	@Test
+	public void testColorFilterMutatesWrappedState() {
+		final TintDrawable drawable = new TintDrawable(new ColorDrawable(Color.WHITE));
+		drawable.setTintList(TINT_LIST);
+		final Drawable.ConstantState state = drawable.getConstantState();
+		final TintDrawable first = (TintDrawable) state.newDrawable();
+		final TintDrawable second = (TintDrawable) state.newDrawable();
+		first.setColorFilter(TintFilterPool.obtain(Color.GREEN, TintDrawable.DEFAULT_TINT_MODE));
+		assertThat(first.mDrawable.getConstantState(), is(not(sameInstance(second.mDrawable.getConstantState()))));
+		assertThat(first.getConstantState(), is(not(sameInstance(second.getConstantState()))));
+	}
+
+	@Test
+	public void testStateChangeUpdatesTint() {
+		final TintDrawable drawable = new TintDrawable(new ColorDrawable(Color.WHITE));
+		drawable.setTintList(TINT_LIST);
+		assertThat(drawable.isStateful(), is(true));
+		assertThat(drawable.setState(STATE_PRESSED), is(true));
+		assertThat(drawable.setState(STATE_PRESSED), is(false));
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+
+import org.junit.Test;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class TintFilterPoolTest extends RobolectricTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "TintFilterPoolTest";
+
+	@Override
+	public void afterTest() throws Exception {
+		super.afterTest();
+		TintFilterPool.clear();
+	}
+
+	@Test
+	public void testObtainShared() {
+		final PorterDuffColorFilter filter = TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN);
+		assertThat(TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN), sameInstance(filter));
+	}
+
+	@Test
+	public void testObtainForDifferentColorOrMode() {
+		final PorterDuffColorFilter filter = TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN);
+		assertThat(TintFilterPool.obtain(Color.GREEN, PorterDuff.Mode.SRC_IN), is(not(sameInstance(filter))));
+		assertThat(TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_ATOP), is(not(sameInstance(filter))));
+		// Pool for one mode does not affect pool for another mode.
+		assertThat(TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN), sameInstance(filter));
+	}
+
+	@Test
+	public void testObtainOverMaxFiltersPerMode() {
+		final PorterDuffColorFilter filter = TintFilterPool.obtain(0, PorterDuff.Mode.SRC_IN);
+		final PorterDuffColorFilter otherModeFilter = TintFilterPool.obtain(0, PorterDuff.Mode.MULTIPLY);
+		for (int i = 1; i < TintFilterPool.MAX_FILTERS_PER_MODE; i++) {
+			TintFilterPool.obtain(i, PorterDuff.Mode.SRC_IN);
+		}
+		assertThat(TintFilterPool.obtain(0, PorterDuff.Mode.SRC_IN), sameInstance(filter));
+		// Filter over the maximum count releases all filters pooled for the same mode.
+		TintFilterPool.obtain(TintFilterPool.MAX_FILTERS_PER_MODE, PorterDuff.Mode.SRC_IN);
+		assertThat(TintFilterPool.obtain(0, PorterDuff.Mode.SRC_IN), is(not(sameInstance(filter))));
+		assertThat(TintFilterPool.obtain(0, PorterDuff.Mode.MULTIPLY), sameInstance(otherModeFilter));
+	}
+
+	@Test
+	public void testClear() {
+		final PorterDuffColorFilter filter = TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN);
+		TintFilterPool.clear();
+		assertThat(TintFilterPool.obtain(Color.BLUE, PorterDuff.Mode.SRC_IN), is(not(sameInstance(filter))));
+	}
+}
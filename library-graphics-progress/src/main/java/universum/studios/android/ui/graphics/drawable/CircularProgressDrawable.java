@@ -655,7 +655,10 @@ public class CircularProgressDrawable extends ProgressDrawable {
 			updatePaintToRounded(paint, false);
 			paint.setStyle(Paint.Style.FILL);
 			final int sc = canvas.save();
-			canvas.clipPath(mArrowInfo.path);
+			// Arrow's path is built for zero rotation so just rotate it to the head of the progress.
+			// Scaling of the arrow about its back center point keeps it within its original triangle
+			// so there is no need to clip it.
+			canvas.rotate(mArrowInfo.rotation, OVAL.centerX(), OVAL.centerY());
 			canvas.scale(
 					mArrowInfo.scale,
 					mArrowInfo.scale,
@@ -673,7 +676,7 @@ public class CircularProgressDrawable extends ProgressDrawable {
 	protected void onStart() {
 		this.mIndeterminateState = INDETERMINATE_STATE_EXPANDING;
 		updateColor();
-		scheduleSelf(UPDATE, 0);
+		UPDATE.schedule(0);
 		notifyStarted();
 	}
 
@@ -699,7 +702,7 @@ public class CircularProgressDrawable extends ProgressDrawable {
 	 * stopped.
 	 */
 	private void clearIndeterminateState() {
-		unscheduleSelf(UPDATE);
+		UPDATE.cancel();
 		updatePrivateFlags(PFLAG_FINISHING_INDETERMINATE, false);
 		this.mIndeterminateState = INDETERMINATE_STATE_IDLE;
 		this.mStartAngle = mUserStartAngle;
@@ -726,9 +729,35 @@ public class CircularProgressDrawable extends ProgressDrawable {
 	 */
 	@Override
 	protected boolean onProgressChange(int progress) {
+		if (mMode == MODE_DETERMINATE) {
+			this.updateDeterminateAngles();
+			return true;
+		}
 		return onUpdate();
 	}
 
+	/**
+	 */
+	@Override
+	int computeProgressExtent(float progress) {
+		return Math.round(progress / mMax * (float) (Math.PI * OVAL.width()));
+	}
+
+	/**
+	 * Updates the start and sweep angle of the progress oval according to the currently drawn
+	 * progress. Used in the <b>DETERMINATE</b> mode.
+	 */
+	private void updateDeterminateAngles() {
+		final float sweepAngle = mSweepAngle;
+		this.mSweepAngle = mDrawnProgress / mMax * MAX_ANGLE;
+		if (hasPrivateFlag(PFLAG_ROTATE_ON_PROGRESS_CHANGE)) {
+			this.mStartAngle += mSweepAngle - sweepAngle;
+		}
+		if ((mPrivateFlags & PFLAG_ARROW_ENABLED) != 0) {
+			this.updateArrowPosition();
+		}
+	}
+
 	/**
 	 */
 	@Override
@@ -767,14 +796,10 @@ public class CircularProgressDrawable extends ProgressDrawable {
 	@Override
 	boolean onUpdate() {
 		boolean schedule = false;
-		final float indeterminateSpeed = mProgressState.indeterminateSpeed;
+		final float indeterminateSpeed = mProgressState.indeterminateSpeed * mFrameScale;
 		switch (mMode) {
 			case MODE_DETERMINATE:
-				final float sweepAngle = mSweepAngle;
-				this.mSweepAngle = mProgress / mMax * MAX_ANGLE;
-				if (hasPrivateFlag(PFLAG_ROTATE_ON_PROGRESS_CHANGE)) {
-					this.mStartAngle += mSweepAngle - sweepAngle;
-				}
+				this.updateDeterminateAngles();
 				invalidateSelf();
 				break;
 			case MODE_INDETERMINATE:
@@ -888,58 +913,70 @@ public class CircularProgressDrawable extends ProgressDrawable {
 	/**
 	 * Updates the current position of the arrow drawn at the head of the progress/indeterminate oval
 	 * according to the current start + sweep angle.
+	 * <p>
+	 * The arrow's path is rebuilt only if its geometry has changed, otherwise only its rotation is
+	 * updated.
 	 */
 	private void updateArrowPosition() {
 		this.ensureArrowInfo();
+		final float radius = OVAL.width() / 2;
+		if (mArrowInfo.pathRadius != radius ||
+				mArrowInfo.pathWide != mArrowInfo.wide ||
+				mArrowInfo.pathThickness != mProgressState.useThickness ||
+				mArrowInfo.pathCenterX != OVAL.centerX() ||
+				mArrowInfo.pathCenterY != OVAL.centerY()) {
+			this.updateArrowPath();
+		}
+		mArrowInfo.rotation = correctAngle(mStartAngle + mSweepAngle - 1);
+	}
 
-		/**
-		 * Compute the path points of the arrow's triangle.
-		 */
-		final float center = OVAL.centerX();
+	/**
+	 * Updates the path of the arrow according to the current oval, thickness and wide of the arrow.
+	 * The path is built for the arrow with its back placed at the {@code 0} angle of the oval, so
+	 * it needs to be rotated when drawn.
+	 */
+	private void updateArrowPath() {
+		final float centerX = OVAL.centerX();
+		final float centerY = OVAL.centerY();
 		final float radius = OVAL.width() / 2;
 		final float circumference = (float) (Math.PI * 2 * radius);
 
+		/**
+		 * Compute the path points of the arrow's triangle.
+		 */
 		// Compute the one PX per ANGLE to move the arrow's head forward so the arrow will be drawn
 		// after the head of the current progress.
 		final float ppd = circumference / MAX_ANGLE;
 
-		// Compute rotation of the arrow based on the start angle + current sweep angle of the current progress.
-		// Take into count also height of the arrow to move it after the head of the current progress.
+		// Take into count height of the arrow to move it after the head of the current progress.
 		final float arrowWide = mArrowInfo.wide;
-		final float progressAngle = mStartAngle + mSweepAngle - 1;
-		final float heightAngles = (arrowWide / 2 / ppd);
-
-		double rotationRadii = Math.toRadians(correctAngle(progressAngle + heightAngles));
-		final PointF headPoint = new PointF(
-				Math.round(center + (radius + mProgressState.useThickness / 2) * Math.cos(rotationRadii)),
-				Math.round(center + (radius + mProgressState.useThickness / 2) * Math.sin(rotationRadii))
+		final float heightAngles = ppd > 0 ? (arrowWide / 2 / ppd) : 0;
+		final double headRadii = Math.toRadians(heightAngles);
+		final float headRadius = radius + mProgressState.useThickness / 2;
+		mArrowInfo.headPoint.set(
+				(float) (centerX + headRadius * Math.cos(headRadii)),
+				(float) (centerY + headRadius * Math.sin(headRadii))
 		);
-		mArrowInfo.headPoint = headPoint;
-
 		final float arrowHalfWide = arrowWide / 2;
-		rotationRadii = Math.toRadians(correctAngle(progressAngle));
-		final PointF backRgtPoint = new PointF(
-				Math.round(center + (radius - arrowHalfWide) * Math.cos(rotationRadii)),
-				Math.round(center + (radius - arrowHalfWide) * Math.sin(rotationRadii))
-		);
-		mArrowInfo.backCenterPoint = new PointF(
-				Math.round(center + radius * Math.cos(rotationRadii)),
-				Math.round(center + radius * Math.sin(rotationRadii))
-		);
-		final PointF backLftPoint = new PointF(
-				Math.round(center + (radius + arrowHalfWide) * Math.cos(rotationRadii)),
-				Math.round(center + (radius + arrowHalfWide) * Math.sin(rotationRadii))
-		);
+		mArrowInfo.backRightPoint.set(centerX + radius - arrowHalfWide, centerY);
+		mArrowInfo.backCenterPoint.set(centerX + radius, centerY);
+		mArrowInfo.backLeftPoint.set(centerX + radius + arrowHalfWide, centerY);
 
 		/**
 		 * Update the path of the arrow.
 		 */
 		final Path path = mArrowInfo.path;
-		path.reset();
-		path.moveTo(headPoint.x, headPoint.y);
-		path.lineTo(backLftPoint.x, backLftPoint.y);
-		path.lineTo(backRgtPoint.x, backRgtPoint.y);
+		path.rewind();
+		path.moveTo(mArrowInfo.headPoint.x, mArrowInfo.headPoint.y);
+		path.lineTo(mArrowInfo.backLeftPoint.x, mArrowInfo.backLeftPoint.y);
+		path.lineTo(mArrowInfo.backRightPoint.x, mArrowInfo.backRightPoint.y);
 		path.close();
+
+		mArrowInfo.pathRadius = radius;
+		mArrowInfo.pathWide = arrowWide;
+		mArrowInfo.pathThickness = mProgressState.useThickness;
+		mArrowInfo.pathCenterX = centerX;
+		mArrowInfo.pathCenterY = centerY;
 	}
 
 	/**
@@ -1054,19 +1091,35 @@ public class CircularProgressDrawable extends ProgressDrawable {
 		float wide;
 
 		/**
-		 * Path determining the arrow.
+		 * Path determining the arrow with zero rotation.
 		 */
-		Path path = new Path();
+		final Path path = new Path();
 
 		/**
 		 * Heading point of the arrow's {@link #path}.
 		 */
-		PointF headPoint;
+		final PointF headPoint = new PointF();
 
 		/**
 		 * Back centered point of the arrow's {@link #path}.
 		 */
-		PointF backCenterPoint;
+		final PointF backCenterPoint = new PointF();
+
+		/**
+		 * Back left and right points of the arrow's {@link #path}.
+		 */
+		final PointF backLeftPoint = new PointF(), backRightPoint = new PointF();
+
+		/**
+		 * Radius of the oval, wide of the arrow, thickness of the progress and center of the oval
+		 * for which has been the {@link #path} built.
+		 */
+		float pathRadius = -1, pathWide, pathThickness, pathCenterX, pathCenterY;
+
+		/**
+		 * Rotation of the arrow's {@link #path} in degrees.
+		 */
+		float rotation;
 
 		/**
 		 * Current scale of the arrow.
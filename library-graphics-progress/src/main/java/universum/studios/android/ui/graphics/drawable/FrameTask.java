@@ -0,0 +1,302 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.view.Choreographer;
+import android.view.View;
+
+/**
+ * A task that is used by {@link ProgressDrawable} implementations to run their animations. Frames
+ * of all tasks are dispatched from a single shared {@link FrameTicker}, via {@link Choreographer}
+ * on {@link Build.VERSION_CODES#JELLY_BEAN JELLY_BEAN} and above Android versions, so they are
+ * synchronized with vsync of the current display.
+ * <p>
+ * Each frame is dispatched to {@link #onFrame(float)} together with a <b>frame scale</b> which is
+ * a ratio between time elapsed since the previous frame and {@link ProgressDrawable#FRAME_UPDATE_INTERVAL}.
+ * Implementations should multiply their per-frame updates by this scale, so the animations run
+ * at the same speed regardless refresh rate of the display, dropped frames and the maximum frame rate
+ * of the drawable.
+ * <p>
+ * Same as for {@link Drawable#scheduleSelf(Runnable, long)}, frames are scheduled and dispatched
+ * only while the drawable has its {@link Drawable.Callback} attached. Task of which drawable is not
+ * {@link Drawable#isVisible() visible} or of which host view is detached from window is
+ * {@link #suspend() suspended} until {@link #resume()} is called, so the shared ticker does not
+ * keep references to drawables and views that are no longer displayed.
+ *
+ * @author Martin Albedinsky
+ */
+abstract class FrameTask {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "FrameTask";
+
+	/**
+	 * Interval between two frames at 60 fps in nanoseconds. Not derived from the millisecond based
+	 * {@link ProgressDrawable#FRAME_UPDATE_INTERVAL} which is truncated to 16 ms.
+	 */
+	static final long FRAME_INTERVAL_NANOS = 1000000000L / 60;
+
+	/**
+	 * Interval between two frames at 60 fps in milliseconds.
+	 */
+	static final float FRAME_INTERVAL_MILLIS = FRAME_INTERVAL_NANOS / 1000000f;
+
+	/**
+	 * Maximum frame scale dispatched to {@link #onFrame(float)}, so the animations do not jump
+	 * after a long stall of the main thread.
+	 */
+	static final float MAX_FRAME_SCALE = 4f;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Drawable for which is this task running.
+	 */
+	final Drawable mDrawable;
+
+	/**
+	 * Time in nanoseconds (in {@link System#nanoTime()} time base) at which should be dispatched
+	 * the next frame of this task or {@code 0} to dispatch it on the next frame.
+	 */
+	long mDueTimeNanos;
+
+	/**
+	 * Time of the last dispatched frame in nanoseconds or {@code 0} if there was no frame
+	 * dispatched since this task has been scheduled from outside of its frame.
+	 */
+	private long mLastFrameTimeNanos;
+
+	/**
+	 * Boolean flag indicating whether this task is scheduled or not.
+	 */
+	boolean mScheduled;
+
+	/**
+	 * Boolean flag indicating whether this task is dispatching its frame at this time.
+	 */
+	private boolean mDispatching;
+
+	/**
+	 * Boolean flag indicating whether this task has been suspended while it was scheduled.
+	 */
+	private boolean mSuspended;
+
+	/**
+	 * Delay in nanoseconds that remained to the due time of this task when it has been suspended.
+	 */
+	private long mSuspendedDelayNanos;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of FrameTask for the given <var>drawable</var>.
+	 *
+	 * @param drawable The drawable for which will be the new task running.
+	 */
+	FrameTask(@NonNull Drawable drawable) {
+		this.mDrawable = drawable;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Schedules the next frame of this task after the specified <var>delay</var>. Any previously
+	 * scheduled frame is cancelled.
+	 * <p>
+	 * If called from {@link #onFrame(float)} without delay, the elapsed time continues to be
+	 * measured from the current frame, otherwise the first frame after this call is dispatched
+	 * with frame scale of {@code 1}.
+	 *
+	 * @param delay Delay in milliseconds after which to dispatch the frame. Use {@code 0} to
+	 *              dispatch the frame on the next vsync.
+	 */
+	final void schedule(long delay) {
+		if (mDrawable.getCallback() == null) {
+			return;
+		}
+		if (!mDispatching || delay > 0) {
+			this.mLastFrameTimeNanos = 0;
+		}
+		this.mDueTimeNanos = delay > 0 ? System.nanoTime() + delay * 1000000L : 0;
+		this.mScheduled = true;
+		FrameTicker.getInstance().register(this);
+	}
+
+	/**
+	 * Cancels the scheduled frame of this task (if any).
+	 */
+	final void cancel() {
+		if (mScheduled) {
+			this.mScheduled = false;
+			FrameTicker.getInstance().unregister(this);
+		}
+		this.mSuspended = false;
+		this.mLastFrameTimeNanos = 0;
+	}
+
+	/**
+	 * Suspends this task if it is scheduled at this time, so it may be later resumed via {@link #resume()}.
+	 */
+	final void suspend() {
+		if (mScheduled) {
+			final long delayNanos = mDueTimeNanos > 0 ? Math.max(0, mDueTimeNanos - System.nanoTime()) : 0;
+			cancel();
+			this.mSuspended = true;
+			this.mSuspendedDelayNanos = delayNanos;
+		}
+	}
+
+	/**
+	 * Resumes this task if it has been suspended before. The first frame after resume is dispatched
+	 * with frame scale of {@code 1}, so the animation continues from where it has been suspended.
+	 *
+	 * @return {@code True} if this task has been resumed, {@code false} if it was not suspended.
+	 */
+	final boolean resume() {
+		if (mSuspended) {
+			this.mSuspended = false;
+			schedule(mSuspendedDelayNanos / 1000000L);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether this task is suspended or not.
+	 *
+	 * @return {@code True} if this task is suspended and waits for {@link #resume()}, {@code false}
+	 * otherwise.
+	 */
+	final boolean isSuspended() {
+		return mSuspended;
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether this task has a frame scheduled or not.
+	 *
+	 * @return {@code True} if frame is scheduled, {@code false} otherwise.
+	 */
+	final boolean isScheduled() {
+		return mScheduled;
+	}
+
+	/**
+	 * Dispatches a frame with the specified <var>frameTimeNanos</var> to {@link #onFrame(float)}.
+	 * This is called by {@link FrameTicker} after this task has been unregistered from it.
+	 *
+	 * @param frameTimeNanos Time of the frame in nanoseconds.
+	 */
+	final void dispatchFrame(long frameTimeNanos) {
+		this.mScheduled = false;
+		// Drawables which are detached are dropped from the ticker until scheduled again.
+		if (mDrawable.getCallback() == null) {
+			this.mLastFrameTimeNanos = 0;
+			return;
+		}
+		// Drawables which are hidden or of which host view has been detached from window are
+		// suspended until they become visible again.
+		if (!mDrawable.isVisible() || !isHostAttached(mDrawable)) {
+			this.mLastFrameTimeNanos = 0;
+			this.mSuspended = true;
+			this.mSuspendedDelayNanos = 0;
+			return;
+		}
+		// Skip frames which come earlier than allowed by the maximum frame rate of the drawable.
+		final long minFrameIntervalNanos = mDrawable instanceof ProgressDrawable ?
+				((ProgressDrawable) mDrawable).getMinFrameIntervalNanos() :
+				0;
+		if (mLastFrameTimeNanos > 0 && frameTimeNanos - mLastFrameTimeNanos < minFrameIntervalNanos - FRAME_INTERVAL_NANOS / 2) {
+			final ProgressFrameStats frameStats = ((ProgressDrawable) mDrawable).mFrameStats;
+			if (frameStats != null) frameStats.onFrameSkipped(frameTimeNanos);
+			this.mDueTimeNanos = mLastFrameTimeNanos + minFrameIntervalNanos;
+			this.mScheduled = true;
+			FrameTicker.getInstance().register(this);
+			return;
+		}
+		float frameScale = 1;
+		if (mLastFrameTimeNanos > 0) {
+			frameScale = Math.max(0, Math.min(MAX_FRAME_SCALE, (frameTimeNanos - mLastFrameTimeNanos) / (float) FRAME_INTERVAL_NANOS));
+		}
+		this.mLastFrameTimeNanos = frameTimeNanos;
+		this.mDispatching = true;
+		try {
+			onFrame(frameScale);
+		} finally {
+			this.mDispatching = false;
+		}
+	}
+
+	/**
+	 * Checks whether the view hosting the specified <var>drawable</var> is attached to window. The
+	 * callback chain of the drawable is followed through all drawables which wrap it.
+	 *
+	 * @param drawable The drawable of which host view to check.
+	 * @return {@code True} if the host view is attached or the drawable is not hosted by a view,
+	 * {@code false} otherwise.
+	 */
+	private static boolean isHostAttached(Drawable drawable) {
+		Drawable.Callback callback = drawable.getCallback();
+		while (callback instanceof Drawable) {
+			callback = ((Drawable) callback).getCallback();
+		}
+		if (callback instanceof View) {
+			final View view = (View) callback;
+			return Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT ?
+					view.isAttachedToWindow() :
+					view.getWindowToken() != null;
+		}
+		return true;
+	}
+
+	/**
+	 * Invoked whenever a frame of this task is dispatched. Implementations should call
+	 * {@link #schedule(long)} to request the next frame.
+	 *
+	 * @param frameScale Ratio between time elapsed since the previous frame and
+	 *                   {@link ProgressDrawable#FRAME_UPDATE_INTERVAL}.
+	 */
+	abstract void onFrame(float frameScale);
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
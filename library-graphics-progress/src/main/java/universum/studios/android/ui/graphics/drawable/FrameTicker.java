@@ -0,0 +1,321 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A ticker which dispatches frames to all scheduled {@link FrameTask FrameTasks} from a single
+ * frame callback, so the cost of scheduling per frame stays the same regardless count of running
+ * progress drawables. Frames are posted via {@link Choreographer} on {@link Build.VERSION_CODES#JELLY_BEAN JELLY_BEAN}
+ * and above Android versions and via {@link Handler} with {@link ProgressDrawable#FRAME_UPDATE_INTERVAL}
+ * delay on older versions.
+ * <p>
+ * Tasks are registered whenever they are scheduled and unregistered whenever they are cancelled
+ * or right before their frame is dispatched. A task which should run also on the next frame needs
+ * to schedule itself again. The ticker stops to post frames when there are no tasks registered.
+ * <p>
+ * <b>Note</b>, that the ticker may be accessed only from the main thread.
+ *
+ * @author Martin Albedinsky
+ */
+final class FrameTicker {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "FrameTicker";
+
+	/**
+	 * Tolerance in nanoseconds used to decide whether a delayed task is due at a frame, as frames
+	 * are aligned to vsync.
+	 */
+	private static final long DUE_TIME_TOLERANCE_NANOS = FrameTask.FRAME_INTERVAL_NANOS / 2;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Ticker instance.
+	 */
+	private static FrameTicker sInstance;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Poster used to post frames of this ticker.
+	 */
+	private final FramePoster mPoster;
+
+	/**
+	 * List of currently registered tasks.
+	 */
+	private final List<FrameTask> mTasks = new ArrayList<>();
+
+	/**
+	 * List re-used to dispatch frames to tasks due at a specific frame.
+	 */
+	private final List<FrameTask> mDueTasks = new ArrayList<>();
+
+	/**
+	 * Boolean flag indicating whether a frame is posted or not.
+	 */
+	private boolean mFramePosted;
+
+	/**
+	 * Due time of the currently posted frame or {@code 0} if it is posted for the next frame.
+	 */
+	private long mPostedDueTimeNanos;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of FrameTicker.
+	 */
+	private FrameTicker() {
+		this.mPoster = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN ?
+				new ChoreographerPoster(this) :
+				new HandlerPoster(this);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the shared instance of FrameTicker.
+	 *
+	 * @return Frame ticker instance.
+	 */
+	static FrameTicker getInstance() {
+		if (sInstance == null) sInstance = new FrameTicker();
+		return sInstance;
+	}
+
+	/**
+	 * Registers the given <var>task</var> into this ticker, so its frame will be dispatched at its
+	 * {@link FrameTask#mDueTimeNanos due time}.
+	 *
+	 * @param task The task to register.
+	 */
+	void register(FrameTask task) {
+		if (!mTasks.contains(task)) {
+			mTasks.add(task);
+		}
+		this.postFrame(task.mDueTimeNanos);
+	}
+
+	/**
+	 * Unregisters the given <var>task</var> from this ticker.
+	 *
+	 * @param task The task to unregister.
+	 */
+	void unregister(FrameTask task) {
+		mTasks.remove(task);
+		if (mTasks.isEmpty() && mFramePosted) {
+			mPoster.cancel();
+			this.mFramePosted = false;
+		}
+	}
+
+	/**
+	 * Returns the count of currently registered tasks.
+	 *
+	 * @return Count of tasks.
+	 */
+	int getTasksCount() {
+		return mTasks.size();
+	}
+
+	/**
+	 * Posts a frame to be dispatched at the specified <var>dueTimeNanos</var> if there is no frame
+	 * posted for an earlier time.
+	 */
+	private void postFrame(long dueTimeNanos) {
+		if (mFramePosted) {
+			if (mPostedDueTimeNanos <= dueTimeNanos) return;
+			mPoster.cancel();
+		}
+		final long delay = dueTimeNanos == 0 ? 0 : Math.max(0, (dueTimeNanos - System.nanoTime()) / 1000000L);
+		mPoster.post(delay);
+		this.mFramePosted = true;
+		this.mPostedDueTimeNanos = dueTimeNanos;
+	}
+
+	/**
+	 * Dispatches a frame with the specified <var>frameTimeNanos</var> to all registered tasks
+	 * that are due at this time.
+	 *
+	 * @param frameTimeNanos Time of the frame in nanoseconds.
+	 */
+	void doFrame(long frameTimeNanos) {
+		this.mFramePosted = false;
+		final long dueTime = frameTimeNanos + DUE_TIME_TOLERANCE_NANOS;
+		for (int i = mTasks.size() - 1; i >= 0; i--) {
+			final FrameTask task = mTasks.get(i);
+			if (task.mDueTimeNanos <= dueTime) {
+				mTasks.remove(i);
+				mDueTasks.add(task);
+			}
+		}
+		for (int i = mDueTasks.size() - 1; i >= 0; i--) {
+			final FrameTask task = mDueTasks.get(i);
+			// Task may be re-scheduled by another task's frame, so do not dispatch it in such case.
+			if (task.mScheduled && !mTasks.contains(task)) {
+				task.dispatchFrame(frameTimeNanos);
+			}
+		}
+		mDueTasks.clear();
+		// Post frame for the earliest of the remaining tasks.
+		long nextDueTime = Long.MAX_VALUE;
+		for (int i = 0; i < mTasks.size(); i++) {
+			nextDueTime = Math.min(nextDueTime, mTasks.get(i).mDueTimeNanos);
+		}
+		if (nextDueTime != Long.MAX_VALUE) {
+			this.postFrame(nextDueTime);
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Base class for posters used to post frames of {@link FrameTicker}.
+	 */
+	static abstract class FramePoster {
+
+		/**
+		 * Ticker of which frames to post.
+		 */
+		final FrameTicker ticker;
+
+		/**
+		 * Creates a new instance of FramePoster for the given <var>ticker</var>.
+		 */
+		FramePoster(FrameTicker ticker) {
+			this.ticker = ticker;
+		}
+
+		/**
+		 * Posts a frame after the specified <var>delay</var>.
+		 */
+		abstract void post(long delay);
+
+		/**
+		 * Cancels the posted frame (if any).
+		 */
+		abstract void cancel();
+	}
+
+	/**
+	 * A {@link FramePoster} implementation which posts frames via {@link Choreographer}.
+	 */
+	@TargetApi(Build.VERSION_CODES.JELLY_BEAN)
+	static final class ChoreographerPoster extends FramePoster implements Choreographer.FrameCallback {
+
+		/**
+		 * See {@link FramePoster#FramePoster(FrameTicker)}.
+		 */
+		ChoreographerPoster(FrameTicker ticker) {
+			super(ticker);
+		}
+
+		/**
+		 */
+		@Override
+		void post(long delay) {
+			Choreographer.getInstance().postFrameCallbackDelayed(this, delay);
+		}
+
+		/**
+		 */
+		@Override
+		void cancel() {
+			Choreographer.getInstance().removeFrameCallback(this);
+		}
+
+		/**
+		 */
+		@Override
+		public void doFrame(long frameTimeNanos) {
+			ticker.doFrame(frameTimeNanos);
+		}
+	}
+
+	/**
+	 * A {@link FramePoster} implementation which posts frames via {@link Handler} for the main
+	 * looper with {@link ProgressDrawable#FRAME_UPDATE_INTERVAL} delay.
+	 */
+	static final class HandlerPoster extends FramePoster implements Runnable {
+
+		/**
+		 * Handler used to post frames.
+		 */
+		private final Handler handler = new Handler(Looper.getMainLooper());
+
+		/**
+		 * See {@link FramePoster#FramePoster(FrameTicker)}.
+		 */
+		HandlerPoster(FrameTicker ticker) {
+			super(ticker);
+		}
+
+		/**
+		 */
+		@Override
+		void post(long delay) {
+			handler.postDelayed(this, delay > 0 ? delay : ProgressDrawable.FRAME_UPDATE_INTERVAL);
+		}
+
+		/**
+		 */
+		@Override
+		void cancel() {
+			handler.removeCallbacks(this);
+		}
+
+		/**
+		 */
+		@Override
+		public void run() {
+			ticker.doFrame(System.nanoTime());
+		}
+	}
+}
@@ -226,6 +226,28 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 */
 	private static final long BUFFER_INDETERMINATE_MARK_TRANSLATION_UPDATE_DURATION = 80;
 
+	/**
+	 * Scale mode of the indeterminate buffer marks indicating that the marks are fully visible and
+	 * wait for the next scale down animation.
+	 */
+	private static final int BUFFER_MARKS_SCALE_IDLE = 0x00;
+
+	/**
+	 * Scale mode of the indeterminate buffer marks indicating that the scale down animation is running.
+	 */
+	private static final int BUFFER_MARKS_SCALING_DOWN = 0x01;
+
+	/**
+	 * Scale mode of the indeterminate buffer marks indicating that the marks are hidden and wait
+	 * for the scale up animation.
+	 */
+	private static final int BUFFER_MARKS_SCALE_HIDDEN = 0x02;
+
+	/**
+	 * Scale mode of the indeterminate buffer marks indicating that the scale up animation is running.
+	 */
+	private static final int BUFFER_MARKS_SCALING_UP = 0x03;
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -235,48 +257,21 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 */
 
 	/**
-	 * Task to update translation (along x axis) of the indeterminate buffer marks (circles).
+	 * Task to update translation (along x axis) and scale of the indeterminate buffer marks (circles).
 	 */
-	private final Runnable BUFFER_INDETERMINATE_MARKS_TRANSLATION_UPDATE = new Runnable() {
+	private final FrameTask BUFFER_INDETERMINATE_MARKS_UPDATE = new FrameTask(this) {
 
 		/**
 		 */
 		@Override
-		public void run() {
-			final float maxTranslation = mProgressState.rawThickness * 2;
-			if (mBufferIndeterminateMarksTranslation <= -maxTranslation) {
-				mBufferIndeterminateMarksTranslation += maxTranslation + mProgressState.rawThickness / 2;
-			} else {
-				// Move origin by size of one circle mark per predefined duration.
-				final float update = mProgressState.rawThickness / (
-						BUFFER_INDETERMINATE_MARK_TRANSLATION_UPDATE_DURATION / FRAME_UPDATE_INTERVAL
-				) * mProgressState.indeterminateSpeed;
-				mBufferIndeterminateMarksTranslation -= update;
-			}
+		void onFrame(float frameScale) {
+			updateBufferIndeterminateMarksTranslation(frameScale);
+			updateBufferIndeterminateMarksScale(frameScale);
 			invalidateSelf();
-			scheduleSelf(this, computeFramesScheduleTime());
-		}
-	};
-
-	/**
-	 * Task to schedule {@link #BUFFER_INDETERMINATE_MARKS_SCALE_UPDATE} task from the beginning.
-	 */
-	private final Runnable BUFFER_INDETERMINATE_MARKS_SCALE = new Runnable() {
-
-		/**
-		 */
-		@Override
-		public void run() {
-			BUFFER_INDETERMINATE_MARKS_SCALE_UPDATE.mode = BufferIndeterminateMarksScaleTask.MODE_SCALING_DOWN;
-			scheduleSelf(BUFFER_INDETERMINATE_MARKS_SCALE_UPDATE, 0);
+			schedule(0);
 		}
 	};
 
-	/**
-	 * Task to update scale of the indeterminate buffer marks.
-	 */
-	private final BufferIndeterminateMarksScaleTask BUFFER_INDETERMINATE_MARKS_SCALE_UPDATE = new BufferIndeterminateMarksScaleTask();
-
 	/**
 	 * Current indeterminate buffer marks translation (along x axis).
 	 */
@@ -301,6 +296,23 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 */
 	private float mBufferIndeterminateMarkScale = 1.0f;
 
+	/**
+	 * Current scale mode of the indeterminate buffer marks. One of {@link #BUFFER_MARKS_SCALE_IDLE},
+	 * {@link #BUFFER_MARKS_SCALING_DOWN}, {@link #BUFFER_MARKS_SCALE_HIDDEN}, {@link #BUFFER_MARKS_SCALING_UP}.
+	 */
+	private int mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALE_IDLE;
+
+	/**
+	 * Time in milliseconds elapsed in the current idle or hidden scale mode of the indeterminate
+	 * buffer marks.
+	 */
+	private float mBufferIndeterminateMarksScaleModeTime;
+
+	/**
+	 * Array with x and y coordinates of the indeterminate buffer marks drawn in a single batch.
+	 */
+	private float[] mBufferIndeterminateMarkPoints;
+
 	/**
 	 * Object holding current data for the indeterminate graphics.
 	 */
@@ -393,8 +405,11 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 */
 	public void setSecondaryProgress(int secondaryProgress) {
 		if (mMode == MODE_BUFFER && mSecondaryProgress != secondaryProgress && secondaryProgress >= 0 && secondaryProgress <= mMax) {
+			final int extent = computeProgressExtent(mSecondaryProgress);
 			this.mSecondaryProgress = secondaryProgress;
-			invalidateSelf();
+			if (extent != computeProgressExtent(secondaryProgress)) {
+				invalidateSelf();
+			}
 		}
 	}
 
@@ -599,7 +614,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 		if (hasPrivateFlag(PFLAG_IN_EDIT_MODE)) {
 			switch (mMode) {
 				case MODE_DETERMINATE:
-					this.mProgress = 35;
+					this.mDrawnProgress = mProgress = 35;
 					break;
 				case MODE_INDETERMINATE:
 					final int availableWidth = mBounds.width();
@@ -609,11 +624,11 @@ public class LinearProgressDrawable extends ProgressDrawable {
 					mIndeterminateInfo.followerRight = mBounds.left + mIndeterminateInfo.followerWidth;
 					break;
 				case MODE_BUFFER:
-					this.mProgress = 55;
+					this.mDrawnProgress = mProgress = 55;
 					this.mSecondaryProgress = 80;
 					break;
 				case MODE_QUERY_INDETERMINATE_DETERMINATE:
-					this.mProgress = 15;
+					this.mDrawnProgress = mProgress = 15;
 					break;
 			}
 		}
@@ -621,7 +636,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 		paint.setStyle(Paint.Style.FILL);
 		switch (mMode) {
 			case MODE_DETERMINATE:
-				this.drawProgress(canvas, mProgress, mProgressTintFilter);
+				this.drawProgress(canvas, mDrawnProgress, mProgressTintFilter);
 				break;
 			case MODE_INDETERMINATE:
 				this.drawIndeterminate(canvas);
@@ -634,24 +649,11 @@ public class LinearProgressDrawable extends ProgressDrawable {
 
 					// Draw buffer thick marks.
 					if (mSecondaryProgress < mMax && mBufferIndeterminateMarkScale > 0) {
-						final float secProgressRight = (mSecondaryProgress / mMax) * mBounds.right;
-						final float markRadius = mProgressState.useThickness / 2;
-						final float markSpacing = mProgressState.rawThickness;
-						float centerX = secProgressRight + markSpacing + mBufferIndeterminateMarksTranslation;
-						final float centerY = (mBounds.bottom - mProgressState.useThickness / 2);
-						while (centerX < mBounds.right) {
-							centerX += markRadius;
-							if ((centerX - markRadius) < secProgressRight) {
-								centerX += markSpacing * 2;
-								continue;
-							}
-							canvas.drawCircle(centerX, centerY, markRadius * mBufferIndeterminateMarkScale, paint);
-							centerX += markSpacing * 2;
-						}
+						this.drawBufferIndeterminateMarks(canvas, paint);
 					}
 				}
 				paint.setColor(mProgressState.drawColor);
-				this.drawProgress(canvas, mProgress, mProgressTintFilter);
+				this.drawProgress(canvas, mDrawnProgress, mProgressTintFilter);
 				break;
 			case MODE_QUERY_INDETERMINATE_DETERMINATE:
 				if (hasPrivateFlag(PFLAG_RUNNING) || hasPrivateFlag(PFLAG_FINISHING_INDETERMINATE)) {
@@ -660,7 +662,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 					this.drawIndeterminate(canvas);
 					canvas.restoreToCount(sc);
 				} else {
-					this.drawProgress(canvas, mProgress, mProgressTintFilter);
+					this.drawProgress(canvas, mDrawnProgress, mProgressTintFilter);
 				}
 				break;
 		}
@@ -676,7 +678,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 * @param progress    The progress which to draw.
 	 * @param tintFilter  Current tint color filter for the specified progress.
 	 */
-	private void drawProgress(Canvas canvas, int progress, ColorFilter tintFilter) {
+	private void drawProgress(Canvas canvas, float progress, ColorFilter tintFilter) {
 		final ColorFilter colorFilter = PAINT.getColorFilter();
 		if (colorFilter == null && tintFilter != null) {
 			PAINT.setColorFilter(tintFilter);
@@ -685,6 +687,48 @@ public class LinearProgressDrawable extends ProgressDrawable {
 		PAINT.setColorFilter(colorFilter);
 	}
 
+	/**
+	 * Draws all visible indeterminate buffer marks on the given <var>canvas</var> as round points
+	 * via a single {@link Canvas#drawPoints(float[], int, int, Paint)} call.
+	 *
+	 * @param canvas The canvas on which to draw the marks.
+	 * @param paint  The paint used to draw the marks.
+	 */
+	private void drawBufferIndeterminateMarks(Canvas canvas, Paint paint) {
+		final float secProgressRight = (mSecondaryProgress / mMax) * mBounds.right;
+		final float markRadius = mProgressState.useThickness / 2;
+		final float markSpacing = mProgressState.rawThickness;
+		if (markRadius <= 0 || markSpacing <= 0) {
+			return;
+		}
+		// Ensure capacity for all marks that can fit into the current bounds.
+		final int maxCount = (int) (mBounds.width() / (markSpacing * 2)) + 2;
+		if (mBufferIndeterminateMarkPoints == null || mBufferIndeterminateMarkPoints.length < maxCount * 2) {
+			this.mBufferIndeterminateMarkPoints = new float[maxCount * 2];
+		}
+		final float[] points = mBufferIndeterminateMarkPoints;
+		final float centerY = (mBounds.bottom - mProgressState.useThickness / 2);
+		float centerX = secProgressRight + markSpacing + mBufferIndeterminateMarksTranslation;
+		int count = 0;
+		while (centerX < mBounds.right && count < points.length) {
+			centerX += markRadius;
+			if ((centerX - markRadius) >= secProgressRight) {
+				points[count++] = centerX;
+				points[count++] = centerY;
+			}
+			centerX += markSpacing * 2;
+		}
+		if (count > 0) {
+			final Paint.Cap strokeCap = paint.getStrokeCap();
+			final float strokeWidth = paint.getStrokeWidth();
+			paint.setStrokeCap(Paint.Cap.ROUND);
+			paint.setStrokeWidth(markRadius * 2 * mBufferIndeterminateMarkScale);
+			canvas.drawPoints(points, 0, count, paint);
+			paint.setStrokeCap(strokeCap);
+			paint.setStrokeWidth(strokeWidth);
+		}
+	}
+
 	/**
 	 * Draws indeterminate graphics on the given <var>canvas</var> using the current {@link #mIndeterminateInfo}
 	 * data.
@@ -726,13 +770,30 @@ public class LinearProgressDrawable extends ProgressDrawable {
 		canvas.drawRect(left, mBounds.bottom - mProgressState.useThickness, right, mBounds.bottom, PAINT);
 	}
 
+	/**
+	 */
+	@Override
+	void onSuspendFrames() {
+		super.onSuspendFrames();
+		BUFFER_INDETERMINATE_MARKS_UPDATE.suspend();
+	}
+
+	/**
+	 */
+	@Override
+	boolean onResumeFrames() {
+		boolean resumed = super.onResumeFrames();
+		resumed |= BUFFER_INDETERMINATE_MARKS_UPDATE.resume();
+		return resumed;
+	}
+
 	/**
 	 */
 	@Override
 	protected void onStart() {
 		switch (mMode) {
 			case MODE_INDETERMINATE:
-				scheduleSelf(UPDATE, 0);
+				UPDATE.schedule(0);
 				notifyStarted();
 				break;
 			case MODE_BUFFER:
@@ -744,7 +805,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 				break;
 			case MODE_QUERY_INDETERMINATE_DETERMINATE:
 				if (mProgress == 0) {
-					scheduleSelf(UPDATE, 0);
+					UPDATE.schedule(0);
 					notifyStarted();
 				}
 				break;
@@ -785,7 +846,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 * stopped.
 	 */
 	private void clearIndeterminateState() {
-		unscheduleSelf(UPDATE);
+		UPDATE.cancel();
 		updatePrivateFlags(PFLAG_FINISHING_INDETERMINATE, false);
 		if (mIndeterminateInfo != null) {
 			mIndeterminateInfo.clear(mBounds);
@@ -839,6 +900,13 @@ public class LinearProgressDrawable extends ProgressDrawable {
 		return true;
 	}
 
+	/**
+	 */
+	@Override
+	int computeProgressExtent(float progress) {
+		return Math.round((progress / mMax) * mBounds.right);
+	}
+
 	/**
 	 */
 	@Override
@@ -858,7 +926,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 				float followerRight = mIndeterminateInfo.followerRight;
 				float followerWidth = mIndeterminateInfo.followerWidth;
 
-				final float update = (INDETERMINATE_BLOCK_UPDATE_RATIO * mBounds.width()) * mProgressState.indeterminateSpeed;
+				final float update = (INDETERMINATE_BLOCK_UPDATE_RATIO * mBounds.width()) * mProgressState.indeterminateSpeed * mFrameScale;
 				final float acceleratedUpdate = update * (1 + mIndeterminateInterpolator.getInterpolation(
 						leaderLeft / mBounds.width()
 				));
@@ -894,7 +962,7 @@ public class LinearProgressDrawable extends ProgressDrawable {
 					this.ensureIndeterminateInfo(true);
 					if ((mPrivateFlags & PFLAG_FINISHING_INDETERMINATE) == 0) {
 						changeNextColor();
-						scheduleSelf(UPDATE, computeScheduleTime(INDETERMINATE_SILENCE_DURATION));
+						UPDATE.schedule(INDETERMINATE_SILENCE_DURATION);
 					} else {
 						clearIndeterminateState();
 						notifyStopped();
@@ -939,12 +1007,13 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	}
 
 	/**
-	 * Schedules all updates essential for {@link #MODE_BUFFER} mode. These are {@link #BUFFER_INDETERMINATE_MARKS_TRANSLATION_UPDATE}
-	 * and {@link #BUFFER_INDETERMINATE_MARKS_SCALE}.
+	 * Schedules all updates essential for {@link #MODE_BUFFER} mode. Both translation and scale of
+	 * the indeterminate buffer marks are updated by {@link #BUFFER_INDETERMINATE_MARKS_UPDATE}.
 	 */
 	private void scheduleBufferUpdates() {
-		scheduleSelf(BUFFER_INDETERMINATE_MARKS_TRANSLATION_UPDATE, 0);
-		scheduleSelf(BUFFER_INDETERMINATE_MARKS_SCALE, computeScheduleTime(mBufferIndeterminateMarksScaleInterval));
+		this.mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALE_IDLE;
+		this.mBufferIndeterminateMarksScaleModeTime = 0;
+		BUFFER_INDETERMINATE_MARKS_UPDATE.schedule(0);
 	}
 
 	/**
@@ -953,9 +1022,64 @@ public class LinearProgressDrawable extends ProgressDrawable {
 	 * @see #scheduleBufferUpdates()
 	 */
 	private void unscheduleBufferUpdates() {
-		unscheduleSelf(BUFFER_INDETERMINATE_MARKS_TRANSLATION_UPDATE);
-		unscheduleSelf(BUFFER_INDETERMINATE_MARKS_SCALE);
-		unscheduleSelf(BUFFER_INDETERMINATE_MARKS_SCALE_UPDATE);
+		BUFFER_INDETERMINATE_MARKS_UPDATE.cancel();
+	}
+
+	/**
+	 * Updates translation of the indeterminate buffer marks for the current frame.
+	 *
+	 * @param frameScale Frame scale of the current frame.
+	 */
+	private void updateBufferIndeterminateMarksTranslation(float frameScale) {
+		final float maxTranslation = mProgressState.rawThickness * 2;
+		if (mBufferIndeterminateMarksTranslation <= -maxTranslation) {
+			this.mBufferIndeterminateMarksTranslation += maxTranslation + mProgressState.rawThickness / 2;
+		} else {
+			// Move origin by size of one circle mark per predefined duration.
+			final float update = mProgressState.rawThickness / (
+					BUFFER_INDETERMINATE_MARK_TRANSLATION_UPDATE_DURATION / FrameTask.FRAME_INTERVAL_MILLIS
+			) * mProgressState.indeterminateSpeed * frameScale;
+			this.mBufferIndeterminateMarksTranslation -= update;
+		}
+	}
+
+	/**
+	 * Updates scale of the indeterminate buffer marks for the current frame. The marks are scaled
+	 * down after {@link #mBufferIndeterminateMarksScaleInterval}, stay hidden for {@link #mBufferIndeterminateMarksScaleDuration}
+	 * and then are scaled up again.
+	 *
+	 * @param frameScale Frame scale of the current frame.
+	 */
+	private void updateBufferIndeterminateMarksScale(float frameScale) {
+		final float scaleUpdate = frameScale / (mBufferIndeterminateMarksScaleDuration / FrameTask.FRAME_INTERVAL_MILLIS);
+		switch (mBufferIndeterminateMarksScaleMode) {
+			case BUFFER_MARKS_SCALE_IDLE:
+				this.mBufferIndeterminateMarksScaleModeTime += frameScale * FrameTask.FRAME_INTERVAL_MILLIS;
+				if (mBufferIndeterminateMarksScaleModeTime >= mBufferIndeterminateMarksScaleInterval) {
+					this.mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALING_DOWN;
+				}
+				break;
+			case BUFFER_MARKS_SCALING_DOWN:
+				this.mBufferIndeterminateMarkScale = Math.max(0, mBufferIndeterminateMarkScale - scaleUpdate);
+				if (mBufferIndeterminateMarkScale <= 0) {
+					this.mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALE_HIDDEN;
+					this.mBufferIndeterminateMarksScaleModeTime = 0;
+				}
+				break;
+			case BUFFER_MARKS_SCALE_HIDDEN:
+				this.mBufferIndeterminateMarksScaleModeTime += frameScale * FrameTask.FRAME_INTERVAL_MILLIS;
+				if (mBufferIndeterminateMarksScaleModeTime >= mBufferIndeterminateMarksScaleDuration) {
+					this.mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALING_UP;
+				}
+				break;
+			case BUFFER_MARKS_SCALING_UP:
+				this.mBufferIndeterminateMarkScale = Math.min(1, mBufferIndeterminateMarkScale + scaleUpdate);
+				if (mBufferIndeterminateMarkScale >= 1) {
+					this.mBufferIndeterminateMarksScaleMode = BUFFER_MARKS_SCALE_IDLE;
+					this.mBufferIndeterminateMarksScaleModeTime = 0;
+				}
+				break;
+		}
 	}
 
 	/**
@@ -1100,62 +1224,4 @@ public class LinearProgressDrawable extends ProgressDrawable {
 			leaderWidth = followerWidth = 0;
 		}
 	}
-
-	/**
-	 * Runnable task to run scale up/down animation of the indeterminate buffer marks.
-	 */
-	private final class BufferIndeterminateMarksScaleTask implements Runnable {
-
-		/**
-		 * Flag for idle mode.
-		 */
-		static final int MODE_IDLE = 0x00;
-
-		/**
-		 * Flag for scaling mode to indicate that the scale down animation is running.
-		 */
-		static final int MODE_SCALING_DOWN = 0x01;
-
-		/**
-		 * Flag fro scaling mode to indicate that the scale up animation is running.
-		 */
-		static final int MODE_SCALING_UP = 0x02;
-
-		/**
-		 * Current scaling mode which determines whether to scale up or scale down the buffer marks.
-		 */
-		int mode = MODE_IDLE;
-
-		/**
-		 */
-		@Override
-		public void run() {
-			switch (mode) {
-				case MODE_SCALING_DOWN:
-					if (mBufferIndeterminateMarkScale <= 0) {
-						mBufferIndeterminateMarkScale = 0;
-						this.mode = MODE_SCALING_UP;
-						scheduleSelf(this, computeScheduleTime(mBufferIndeterminateMarksScaleDuration));
-					} else {
-						mBufferIndeterminateMarkScale -= 1 / (float) (mBufferIndeterminateMarksScaleDuration / FRAME_UPDATE_INTERVAL);
-						scheduleSelf(this, computeFramesScheduleTime());
-						invalidateSelf();
-					}
-					break;
-				case MODE_SCALING_UP:
-					if (mBufferIndeterminateMarkScale >= 1) {
-						mBufferIndeterminateMarkScale = 1;
-						this.mode = MODE_IDLE;
-						scheduleSelf(BUFFER_INDETERMINATE_MARKS_SCALE, computeScheduleTime(mBufferIndeterminateMarksScaleInterval));
-					} else {
-						mBufferIndeterminateMarkScale += 1 / (float) (mBufferIndeterminateMarksScaleDuration / FRAME_UPDATE_INTERVAL);
-						scheduleSelf(this, computeFramesScheduleTime());
-						invalidateSelf();
-					}
-					break;
-				default:
-					unscheduleSelf(this);
-			}
-		}
-	}
 }
@@ -33,7 +33,6 @@ import android.graphics.Rect;
 import android.graphics.drawable.Animatable;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
-import android.os.SystemClock;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
@@ -149,6 +148,24 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		void onImploded(@NonNull ProgressDrawable drawable);
 	}
 
+	/**
+	 * Listener which can receive frame statistics of progress drawable collected while its frame
+	 * statistics are enabled.
+	 *
+	 * @see #setFrameStatsEnabled(boolean)
+	 */
+	public interface FrameStatsCallback {
+
+		/**
+		 * Invoked whenever the current animation session of the specified progress <var>drawable</var>
+		 * is stopped, to report the frame statistics collected so far.
+		 *
+		 * @param drawable The progress drawable of which frame statistics are reported.
+		 * @param stats    The frame statistics collected since they have been enabled or last reset.
+		 */
+		void onFrameStatsReported(@NonNull ProgressDrawable drawable, @NonNull ProgressFrameStats stats);
+	}
+
 	/*
 	 * Constants ===================================================================================
 	 */
@@ -180,6 +197,23 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 */
 	public static final int MAX_PROGRESS = 100;
 
+	/**
+	 * Frame rate value indicating that the animations are not capped and run at frame rate of the
+	 * current display.
+	 *
+	 * @see #setDefaultMaxFrameRate(int)
+	 * @see #setMaxFrameRate(int)
+	 */
+	public static final int FRAME_RATE_UNLIMITED = 0;
+
+	/**
+	 * Frame rate value indicating that a drawable should use the default maximum frame rate specified
+	 * via {@link #setDefaultMaxFrameRate(int)}.
+	 *
+	 * @see #setMaxFrameRate(int)
+	 */
+	public static final int FRAME_RATE_DEFAULT = -1;
+
 	/**
 	 * Maximum level value that can be set to this progress bar instead progress value.
 	 */
@@ -195,7 +229,9 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	public static final boolean REQUIRES_SOFTWARE_LAYER = Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB && Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN;
 
 	/**
-	 * Update interval for animations running by this drawable in milliseconds.
+	 * Base update interval for animations running by this drawable in milliseconds. Animations are
+	 * driven by frames of the current display, but all per-frame updates are specified for this
+	 * interval and scaled by time actually elapsed between frames.
 	 * <p>
 	 * Value: <b>60 fps</b>
 	 */
@@ -250,10 +286,32 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 */
 	static final int PFLAG_IN_EDIT_MODE = 0x00000040;
 
+	/**
+	 * Flag indicating whether the drawn progress should smoothly move toward the progress set via
+	 * {@link #setProgress(int)} or not.
+	 */
+	static final int PFLAG_SMOOTH_PROGRESS = 0x00000080;
+
+	/**
+	 * Fraction of the progress maximum by which is the drawn progress moved toward the actual progress
+	 * per one frame when smooth progress is enabled.
+	 */
+	static final float SMOOTH_PROGRESS_FRAME_UPDATE = 0.02f;
+
+	/**
+	 * Value returned by {@link #computeProgressExtent(float)} if the extent cannot be computed.
+	 */
+	static final int NO_EXTENT = -1;
+
 	/*
 	 * Static members ==============================================================================
 	 */
 
+	/**
+	 * Maximum frame rate used by all progress drawables which do not have their own one specified.
+	 */
+	private static int sDefaultMaxFrameRate = FRAME_RATE_UNLIMITED;
+
 	/*
 	 * Members =====================================================================================
 	 */
@@ -262,15 +320,16 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * Task to update current data of this drawable. This task should be used primary for update of
 	 * indeterminate data.
 	 */
-	final Runnable UPDATE = new Runnable() {
+	final FrameTask UPDATE = new FrameTask(this) {
 
 		/**
 		 */
 		@Override
-		public void run() {
+		void onFrame(float frameScale) {
+			mFrameScale = frameScale;
 			if (onUpdate()) {
 				invalidateSelf();
-				scheduleSelf(this, computeFramesScheduleTime());
+				schedule(0);
 			}
 		}
 	};
@@ -279,18 +338,18 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * Task used to explode thickness of this progress drawable after {@link #explode()} has been
 	 * called.
 	 */
-	private final Runnable EXPLODE_THICKNESS = new Runnable() {
+	private final FrameTask EXPLODE_THICKNESS = new FrameTask(this) {
 
 		/**
 		 */
 		@Override
-		public void run() {
+		void onFrame(float frameScale) {
 			if (mProgressState.useThickness < mProgressState.rawThickness) {
-				final float update = computeExplodeImplodeUpdate();
-				if (onThicknessChange(mProgressState.useThickness += update)) {
+				final float update = computeExplodeImplodeUpdate() * frameScale;
+				if (onThicknessChange(mProgressState.useThickness = Math.min(mProgressState.rawThickness, mProgressState.useThickness + update))) {
 					invalidateSelf();
 				}
-				scheduleSelf(this, computeFramesScheduleTime());
+				schedule(0);
 			} else {
 				onExploded(true);
 			}
@@ -301,24 +360,64 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * Task used to implode thickness of this progress drawable after {@link #implode()} has been
 	 * called.
 	 */
-	private final Runnable IMPLODE_THICKNESS = new Runnable() {
+	private final FrameTask IMPLODE_THICKNESS = new FrameTask(this) {
 
 		/**
 		 */
 		@Override
-		public void run() {
+		void onFrame(float frameScale) {
 			if (mProgressState.useThickness > 0) {
-				final float update = computeExplodeImplodeUpdate();
-				if (onThicknessChange(mProgressState.useThickness -= update)) {
+				final float update = computeExplodeImplodeUpdate() * frameScale;
+				if (onThicknessChange(mProgressState.useThickness = Math.max(0, mProgressState.useThickness - update))) {
 					invalidateSelf();
 				}
-				scheduleSelf(this, computeFramesScheduleTime());
+				schedule(0);
 			} else {
 				onExploded(false);
 			}
 		}
 	};
 
+	/**
+	 * Task used to move the drawn progress toward the actual progress when smooth progress is enabled.
+	 */
+	private final FrameTask SMOOTH_PROGRESS = new FrameTask(this) {
+
+		/**
+		 */
+		@Override
+		void onFrame(float frameScale) {
+			final float update = mMax * SMOOTH_PROGRESS_FRAME_UPDATE * frameScale;
+			final float progress = mDrawnProgress < mProgress ?
+					Math.min(mProgress, mDrawnProgress + update) :
+					Math.max(mProgress, mDrawnProgress - update);
+			changeDrawnProgress(progress);
+			if (progress != mProgress) schedule(0);
+		}
+	};
+
+	/**
+	 * Ratio between time elapsed since the previous frame of {@link #UPDATE} task and
+	 * {@link #FRAME_UPDATE_INTERVAL}. Implementations should multiply all their per-frame updates
+	 * performed in {@link #onUpdate()} by this scale.
+	 */
+	float mFrameScale = 1;
+
+	/**
+	 * Time in nanoseconds when this drawable has been made invisible or {@code 0} if it is visible.
+	 */
+	private long mInvisibleTimeNanos;
+
+	/**
+	 * Count of animation frames that has been skipped due to invisibility of this drawable.
+	 */
+	private long mSkippedFramesCount;
+
+	/**
+	 * Maximum frame rate of animations of this drawable.
+	 */
+	private int mMaxFrameRate = FRAME_RATE_DEFAULT;
+
 	/**
 	 * Paint used to draw graphics (background if any, progress, ...) of this drawable.
 	 */
@@ -334,6 +433,12 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 */
 	int mProgress;
 
+	/**
+	 * Progress which is actually drawn by this drawable. Same as {@link #mProgress} unless smooth
+	 * progress is enabled and the drawn progress is moving toward the actual one.
+	 */
+	float mDrawnProgress;
+
 	/**
 	 * Tint filter used to tint background graphics of this drawable.
 	 */
@@ -403,6 +508,16 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 */
 	private ExplodeAnimationCallback mExplodeAnimationCallback;
 
+	/**
+	 * Listener to receive frame statistics of this progress drawable.
+	 */
+	private FrameStatsCallback mFrameStatsCallback;
+
+	/**
+	 * Frame statistics of this drawable. Not {@code null} only if frame statistics are enabled.
+	 */
+	ProgressFrameStats mFrameStats;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -474,6 +589,26 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 */
 	@Override
 	public void draw(Canvas canvas) {
+		if (mFrameStats == null) {
+			this.drawFrame(canvas);
+			return;
+		}
+		final long frameTimeNanos = System.nanoTime();
+		this.drawFrame(canvas);
+		mFrameStats.onFrameDrawn(
+				frameTimeNanos,
+				System.nanoTime() - frameTimeNanos,
+				isRunning(),
+				Math.max(FrameTask.FRAME_INTERVAL_NANOS, getMinFrameIntervalNanos())
+		);
+	}
+
+	/**
+	 * Draws graphics of this drawable on the given <var>canvas</var>.
+	 *
+	 * @param canvas The canvas on which to draw.
+	 */
+	private void drawFrame(Canvas canvas) {
 		if (mProgressState.useThickness > 0) {
 			final ColorFilter colorFilter = PAINT.getColorFilter();
 			if ((mProgressState.drawColor >>> 24) != 0 || colorFilter != null || mProgressTintFilter != null || mIndeterminateTintFilter != null) {
@@ -569,6 +704,119 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		return mMode != DETERMINATE && (mPrivateFlags & PFLAG_RUNNING) != 0;
 	}
 
+	/**
+	 * Suspends frames of the running animations of this drawable whenever it is made invisible and
+	 * resumes them whenever it is made visible again, so no frames are scheduled while this drawable
+	 * cannot be seen.
+	 *
+	 * @see #getSkippedFramesCount()
+	 */
+	@Override
+	public boolean setVisible(boolean visible, boolean restart) {
+		final boolean changed = super.setVisible(visible, restart);
+		if (changed) {
+			if (visible) {
+				if (onResumeFrames() && mInvisibleTimeNanos > 0) {
+					final long skippedFrames = (System.nanoTime() - mInvisibleTimeNanos) / FrameTask.FRAME_INTERVAL_NANOS;
+					this.mSkippedFramesCount += skippedFrames;
+					if (mFrameStats != null) mFrameStats.onFramesSkipped(skippedFrames);
+				}
+				this.mInvisibleTimeNanos = 0;
+			} else {
+				onSuspendFrames();
+				this.mInvisibleTimeNanos = System.nanoTime();
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the count of animation frames that has been skipped since this drawable has been
+	 * created due to its invisibility while its animations were running.
+	 *
+	 * @return Count of skipped frames.
+	 * @see #setVisible(boolean, boolean)
+	 * @see #resetSkippedFramesCount()
+	 */
+	public long getSkippedFramesCount() {
+		return mSkippedFramesCount;
+	}
+
+	/**
+	 * Resets the count of skipped animation frames to {@code 0}.
+	 *
+	 * @see #getSkippedFramesCount()
+	 */
+	public void resetSkippedFramesCount() {
+		this.mSkippedFramesCount = 0;
+	}
+
+	/**
+	 * Sets the maximum frame rate for animations of all progress drawables which do not have their
+	 * own maximum frame rate specified via {@link #setMaxFrameRate(int)}. This may be used to save
+	 * power on low-end devices.
+	 * <p>
+	 * Animations still run at the same speed, as their updates are scaled by time actually elapsed
+	 * between frames, only less frames are drawn.
+	 * <p>
+	 * Default value: <b>{@link #FRAME_RATE_UNLIMITED}</b>
+	 *
+	 * @param frameRate The desired maximum frame rate in frames per second or {@link #FRAME_RATE_UNLIMITED}.
+	 * @see #getDefaultMaxFrameRate()
+	 */
+	public static void setDefaultMaxFrameRate(int frameRate) {
+		sDefaultMaxFrameRate = Math.max(FRAME_RATE_UNLIMITED, frameRate);
+	}
+
+	/**
+	 * Returns the default maximum frame rate for animations of progress drawables.
+	 *
+	 * @return Frame rate in frames per second or {@link #FRAME_RATE_UNLIMITED}.
+	 * @see #setDefaultMaxFrameRate(int)
+	 */
+	public static int getDefaultMaxFrameRate() {
+		return sDefaultMaxFrameRate;
+	}
+
+	/**
+	 * Sets the maximum frame rate for animations of this progress drawable.
+	 * <p>
+	 * Animations still run at the same speed, as their updates are scaled by time actually elapsed
+	 * between frames, only less frames are drawn.
+	 * <p>
+	 * Default value: <b>{@link #FRAME_RATE_DEFAULT}</b>
+	 *
+	 * @param frameRate The desired maximum frame rate in frames per second, {@link #FRAME_RATE_UNLIMITED}
+	 *                  to not cap frame rate of this drawable or {@link #FRAME_RATE_DEFAULT} to use
+	 *                  the {@link #setDefaultMaxFrameRate(int) default} one.
+	 * @see #getMaxFrameRate()
+	 */
+	public void setMaxFrameRate(int frameRate) {
+		this.mMaxFrameRate = Math.max(FRAME_RATE_DEFAULT, frameRate);
+	}
+
+	/**
+	 * Returns the maximum frame rate for animations of this progress drawable.
+	 *
+	 * @return Frame rate in frames per second or {@link #FRAME_RATE_UNLIMITED} if frame rate of
+	 * this drawable is not capped.
+	 * @see #setMaxFrameRate(int)
+	 */
+	public int getMaxFrameRate() {
+		return mMaxFrameRate == FRAME_RATE_DEFAULT ? sDefaultMaxFrameRate : mMaxFrameRate;
+	}
+
+	/**
+	 * Returns the minimum interval between two animation frames of this drawable according to its
+	 * maximum frame rate.
+	 *
+	 * @return Interval in nanoseconds or {@code 0} if frame rate is not capped.
+	 */
+	final long getMinFrameIntervalNanos() {
+		final int frameRate = getMaxFrameRate();
+		return frameRate > 0 ? 1000000000L / frameRate : 0;
+	}
+
 	/**
 	 * Animates thickness of this progress drawable from {@code 0} to value specified by {@link #setThickness(float)}.
 	 * <p>
@@ -694,7 +942,9 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	public void setMax(int max) {
 		if (mMax != max) {
 			this.mMax = Math.max(0, max);
-			onProgressChange(mProgress);
+			if (onProgressChange(mProgress)) {
+				invalidateSelf();
+			}
 		}
 	}
 
@@ -720,21 +970,90 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * drawn by this drawable.
 	 * <p>
 	 * Does nothing if the current mode is <b>INDETERMINATE</b>.
+	 * <p>
+	 * This drawable is invalidated only if the change in progress changes the drawn progress graphics
+	 * at least by a whole pixel. If smooth progress is enabled, the drawn progress moves toward the
+	 * specified one on the following frames.
 	 *
 	 * @param progress The desired progress. Should be from the range {@code [0, getMax()]}.
-	 * @return {@code True} if progress has been changed, {@code false} otherwise.
+	 * @return {@code True} if progress has been changed and this drawable has been invalidated or
+	 * will be invalidated due to smooth progress, {@code false} otherwise.
 	 * @see #getProgress()
+	 * @see #setSmoothProgressEnabled(boolean)
 	 */
 	public boolean setProgress(int progress) {
 		if (mMode != INDETERMINATE && mProgress != progress && progress >= 0 && progress <= mMax) {
-			if (onProgressChange(mProgress = progress)) {
-				invalidateSelf();
+			this.mProgress = progress;
+			if ((mPrivateFlags & PFLAG_SMOOTH_PROGRESS) != 0 && getCallback() != null) {
+				if (!SMOOTH_PROGRESS.isScheduled()) SMOOTH_PROGRESS.schedule(0);
 				return true;
 			}
+			return changeDrawnProgress(progress);
+		}
+		return false;
+	}
+
+	/**
+	 * Changes the progress drawn by this drawable to the specified one and invalidates this drawable
+	 * if the drawn extent of the progress has changed at least by a whole pixel.
+	 *
+	 * @param progress The progress to be drawn.
+	 * @return {@code True} if this drawable has been invalidated, {@code false} otherwise.
+	 */
+	final boolean changeDrawnProgress(float progress) {
+		final int extent = computeProgressExtent(mDrawnProgress);
+		this.mDrawnProgress = progress;
+		if (onProgressChange(mProgress) && (extent == NO_EXTENT || extent != computeProgressExtent(progress))) {
+			invalidateSelf();
+			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Computes extent of the progress graphics drawn for the specified <var>progress</var> in pixels.
+	 * Used to decide whether a change in progress needs to be drawn or not.
+	 * <p>
+	 * This implementation returns {@link #NO_EXTENT}, so this drawable is invalidated on every
+	 * change in progress.
+	 *
+	 * @param progress The progress for which to compute the extent.
+	 * @return Extent of the progress in whole pixels or {@link #NO_EXTENT}.
+	 */
+	int computeProgressExtent(float progress) {
+		return NO_EXTENT;
+	}
+
+	/**
+	 * Sets a flag indicating whether the drawn progress should smoothly move toward the progress
+	 * specified via {@link #setProgress(int)} at a fixed rate instead of jumping to it. This may
+	 * be useful when progress is changed at a high frequency or by large steps.
+	 * <p>
+	 * Smooth progress is <b>disabled</b> by default.
+	 *
+	 * @param enabled {@code True} to enable smooth progress, {@code false} otherwise.
+	 * @see #isSmoothProgressEnabled()
+	 */
+	public void setSmoothProgressEnabled(boolean enabled) {
+		if (hasPrivateFlag(PFLAG_SMOOTH_PROGRESS) != enabled) {
+			this.updatePrivateFlags(PFLAG_SMOOTH_PROGRESS, enabled);
+			if (!enabled && SMOOTH_PROGRESS.isScheduled()) {
+				SMOOTH_PROGRESS.cancel();
+				changeDrawnProgress(mProgress);
+			}
+		}
+	}
+
+	/**
+	 * Returns a flag indicating whether the smooth progress is enabled or not.
+	 *
+	 * @return {@code True} if enabled, {@code false} otherwise.
+	 * @see #setSmoothProgressEnabled(boolean)
+	 */
+	public boolean isSmoothProgressEnabled() {
+		return (mPrivateFlags & PFLAG_SMOOTH_PROGRESS) != 0;
+	}
+
 	/**
 	 * Invoked whenever {@link #setProgress(int)} is called and the current progress has been changed.
 	 * <p>
@@ -859,6 +1178,7 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 
 		if (!Arrays.equals(mProgressState.colors, colors)) {
 			this.mProgressState.colors = colors;
+			this.mProgressState.backgroundColors = createBackgroundColors(colors);
 			if ((mPrivateFlags & PFLAG_MULTI_COLORED) != 0) {
 				changeNextColor();
 				invalidateSelf();
@@ -1255,6 +1575,59 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		this.mExplodeAnimationCallback = callback;
 	}
 
+	/**
+	 * Sets a flag indicating whether this progress drawable should collect its frame statistics or
+	 * not. Frame statistics are reported to the {@link FrameStatsCallback} (if any) whenever the
+	 * current animation session is stopped and may be also obtained at any time via {@link #getFrameStats()}.
+	 * <p>
+	 * Frame statistics are <b>disabled</b> by default, as collecting of them requires measuring of
+	 * time for each drawn frame.
+	 *
+	 * @param enabled {@code True} to enable frame statistics, {@code false} to disable them and drop
+	 *                the statistics collected so far.
+	 * @see #isFrameStatsEnabled()
+	 * @see #setFrameStatsCallback(FrameStatsCallback)
+	 */
+	public void setFrameStatsEnabled(boolean enabled) {
+		if (enabled) {
+			if (mFrameStats == null) this.mFrameStats = new ProgressFrameStats();
+		} else {
+			this.mFrameStats = null;
+		}
+	}
+
+	/**
+	 * Returns a flag indicating whether this progress drawable collects its frame statistics or not.
+	 *
+	 * @return {@code True} if frame statistics are enabled, {@code false} otherwise.
+	 * @see #setFrameStatsEnabled(boolean)
+	 */
+	public boolean isFrameStatsEnabled() {
+		return mFrameStats != null;
+	}
+
+	/**
+	 * Returns the frame statistics collected by this progress drawable.
+	 *
+	 * @return Frame statistics or {@code null} if they are not enabled.
+	 * @see #setFrameStatsEnabled(boolean)
+	 */
+	@Nullable
+	public ProgressFrameStats getFrameStats() {
+		return mFrameStats;
+	}
+
+	/**
+	 * Registers a callback to be invoked whenever the frame statistics of this progress drawable
+	 * are reported.
+	 *
+	 * @param callback Listener callback. {@code Null} is allowed to clear the current callback.
+	 * @see #setFrameStatsEnabled(boolean)
+	 */
+	public void setFrameStatsCallback(@Nullable FrameStatsCallback callback) {
+		this.mFrameStatsCallback = callback;
+	}
+
 	/**
 	 */
 	@Override
@@ -1354,7 +1727,8 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * specified by {@link #setThickness(float)}.
 	 */
 	protected void onExplode() {
-		scheduleSelf(EXPLODE_THICKNESS, 0);
+		IMPLODE_THICKNESS.cancel();
+		EXPLODE_THICKNESS.schedule(0);
 	}
 
 	/**
@@ -1364,15 +1738,42 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	 * This implementation will schedule updates to decrease the current thickness to {@code 0}.
 	 */
 	protected void onImplode() {
-		scheduleSelf(IMPLODE_THICKNESS, 0);
+		EXPLODE_THICKNESS.cancel();
+		IMPLODE_THICKNESS.schedule(0);
+	}
+
+	/**
+	 * Invoked whenever this drawable has been made invisible to suspend all its frame tasks.
+	 * Implementations that use additional frame tasks should suspend them here also.
+	 */
+	void onSuspendFrames() {
+		UPDATE.suspend();
+		EXPLODE_THICKNESS.suspend();
+		IMPLODE_THICKNESS.suspend();
+		SMOOTH_PROGRESS.suspend();
+	}
+
+	/**
+	 * Invoked whenever this drawable has been made visible again to resume all its frame tasks
+	 * suspended before.
+	 *
+	 * @return {@code True} if at least one task has been resumed, {@code false} otherwise.
+	 */
+	boolean onResumeFrames() {
+		boolean resumed = UPDATE.resume();
+		resumed |= EXPLODE_THICKNESS.resume();
+		resumed |= IMPLODE_THICKNESS.resume();
+		resumed |= SMOOTH_PROGRESS.resume();
+		return resumed;
 	}
 
 	/**
 	 * Invoked whenever {@link #UPDATE} task has been scheduled or this method returns {@code true}.
 	 *
 	 * @return {@code True} to invalidate this drawable and re-schedule the {@link #UPDATE} task so
-	 * this method will be invoked again after {@link #FRAME_UPDATE_INTERVAL}, {@code false} to
-	 * cancel UPDATE task scheduling loop.
+	 * this method will be invoked again on the next frame, {@code false} to cancel UPDATE task
+	 * scheduling loop.
+	 * @see #mFrameScale
 	 */
 	boolean onUpdate() {
 		return false;
@@ -1398,6 +1799,9 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		if (mAnimationCallback != null) {
 			mAnimationCallback.onStopped(this);
 		}
+		if (mFrameStats != null && mFrameStatsCallback != null) {
+			mFrameStatsCallback.onFrameStatsReported(this, mFrameStats);
+		}
 	}
 
 	/**
@@ -1478,15 +1882,9 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 			if (mCurrentColorIndex >= mProgressState.colors.length || mCurrentColorIndex < 0) {
 				this.mCurrentColorIndex = 0;
 			}
-			final int color = mProgressState.colors[mCurrentColorIndex];
-			changeColor(color);
+			changeColor(mProgressState.colors[mCurrentColorIndex]);
 			if (mMode == INDETERMINATE) {
-				changeBackgroundColor(Color.argb(
-						BACKGROUND_COLOR_ALPHA,
-						Color.red(color),
-						Color.green(color),
-						Color.blue(color)
-				));
+				changeBackgroundColor(mProgressState.backgroundColors[mCurrentColorIndex]);
 			}
 		} else if (mCurrentColorIndex != 0) {
 			this.mCurrentColorIndex = 0;
@@ -1497,6 +1895,25 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		}
 	}
 
+	/**
+	 * Creates a table with background colors for the specified <var>colors</var>, so the background
+	 * color for a specific color does not need to be computed whenever the current color changes.
+	 *
+	 * @param colors The colors for which to create background colors.
+	 * @return Background colors with {@link #BACKGROUND_COLOR_ALPHA} in the same order as the
+	 * specified colors or {@code null} if the specified colors are {@code null}.
+	 */
+	static int[] createBackgroundColors(int[] colors) {
+		if (colors == null) {
+			return null;
+		}
+		final int[] backgroundColors = new int[colors.length];
+		for (int i = 0; i < colors.length; i++) {
+			backgroundColors[i] = (colors[i] << 8 >>> 8) | (BACKGROUND_COLOR_ALPHA << 24);
+		}
+		return backgroundColors;
+	}
+
 	/**
 	 * Resets the current color of this progress drawable to the default color specified by {@link #setColor(int)}
 	 * or to the first color from the colors set specified by {@link #setColors(int[])} depends
@@ -1547,12 +1964,12 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 	}
 
 	/**
-	 * Computes value of update for explode/implode task.
+	 * Computes value of update for explode/implode task for a single frame at 60 fps.
 	 *
 	 * @return Computed update value.
 	 */
 	final float computeExplodeImplodeUpdate() {
-		return mProgressState.rawThickness / (mExplodeDuration / FRAME_UPDATE_INTERVAL);
+		return mProgressState.rawThickness / (mExplodeDuration / FrameTask.FRAME_INTERVAL_MILLIS);
 	}
 
 	/**
@@ -1580,28 +1997,6 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		return (mPrivateFlags & flag) != 0;
 	}
 
-	/**
-	 * Computes schedule time for {@link #scheduleSelf(Runnable, long)} method for the specified
-	 * <var>delay</var>.
-	 *
-	 * @param delay The desired delay for the scheduling task.
-	 * @return Computed schedule time with the specified delay and {@link android.os.SystemClock#uptimeMillis()}
-	 * as base.
-	 */
-	static long computeScheduleTime(long delay) {
-		return SystemClock.uptimeMillis() + delay;
-	}
-
-	/**
-	 * Computes schedule time for tasks/animations run by this progress drawable in <b>60 fps</b> rate.
-	 *
-	 * @return Computed schedule time with {@link #FRAME_UPDATE_INTERVAL} delay and {@link android.os.SystemClock#uptimeMillis()}
-	 * as base.
-	 */
-	static long computeFramesScheduleTime() {
-		return computeScheduleTime(FRAME_UPDATE_INTERVAL);
-	}
-
 	/**
 	 * Updates the current color used to draw graphics of this progress drawable.
 	 *
@@ -1647,6 +2042,12 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		 */
 		int[] colors;
 
+		/**
+		 * Background colors for each of {@link #colors} with {@link #BACKGROUND_COLOR_ALPHA}, created
+		 * whenever the colors are changed.
+		 */
+		int[] backgroundColors;
+
 		/**
 		 * Raw "untouched" color set by {@link #setColor(int)}.
 		 */
@@ -1752,6 +2153,7 @@ public abstract class ProgressDrawable extends Drawable implements Animatable {
 		 */
 		ProgressState(@NonNull ProgressState state) {
 			this.colors = state.colors;
+			this.backgroundColors = state.backgroundColors;
 			this.color = state.color;
 			this.rawColor = state.rawColor;
 			this.drawColor = state.drawColor;
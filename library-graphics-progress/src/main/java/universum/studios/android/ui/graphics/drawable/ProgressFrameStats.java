@@ -0,0 +1,231 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+/**
+ * Frame statistics collected by {@link ProgressDrawable} when enabled via {@link ProgressDrawable#setFrameStatsEnabled(boolean)}.
+ * The statistics contain count of drawn frames, count of late frames drawn while animation of the
+ * drawable is running, average duration of drawing of a single frame and count of animation frames
+ * that has been skipped due to invisibility or maximum frame rate of the drawable.
+ * <p>
+ * Statistics are accumulated until {@link #reset()} is called.
+ *
+ * @author Martin Albedinsky
+ */
+public final class ProgressFrameStats {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ProgressFrameStats";
+
+	/**
+	 * Ratio between actual and expected interval between two frames from which is a frame considered
+	 * as late.
+	 */
+	static final float LATE_FRAME_THRESHOLD = 1.5f;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Count of frames drawn by the drawable.
+	 */
+	private long mDrawnFramesCount;
+
+	/**
+	 * Count of animation frames drawn later than expected.
+	 */
+	private long mLateFramesCount;
+
+	/**
+	 * Count of animation frames that has been skipped.
+	 */
+	private long mSkippedFramesCount;
+
+	/**
+	 * Total duration of drawing of all drawn frames in nanoseconds.
+	 */
+	private long mTotalDrawDurationNanos;
+
+	/**
+	 * Time when the last animation frame has been drawn in nanoseconds or {@code 0} if the animation
+	 * is not running.
+	 */
+	private long mLastAnimationFrameTimeNanos;
+
+	/**
+	 * Time of the last frame that has been skipped in nanoseconds. Used to count frame skipped by
+	 * multiple frame tasks of the same drawable only once.
+	 */
+	private long mLastSkippedFrameTimeNanos;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ProgressFrameStats.
+	 */
+	ProgressFrameStats() {
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Records a frame drawn by the drawable.
+	 *
+	 * @param frameTimeNanos             Time when the drawing of the frame has started in nanoseconds.
+	 * @param drawDurationNanos          Duration of the drawing in nanoseconds.
+	 * @param animating                  {@code True} if the drawable has its animation running,
+	 *                                   {@code false} otherwise.
+	 * @param expectedFrameIntervalNanos Expected interval between two animation frames in nanoseconds.
+	 */
+	void onFrameDrawn(long frameTimeNanos, long drawDurationNanos, boolean animating, long expectedFrameIntervalNanos) {
+		this.mDrawnFramesCount++;
+		this.mTotalDrawDurationNanos += drawDurationNanos;
+		if (animating) {
+			if (mLastAnimationFrameTimeNanos > 0 &&
+					frameTimeNanos - mLastAnimationFrameTimeNanos > expectedFrameIntervalNanos * LATE_FRAME_THRESHOLD) {
+				this.mLateFramesCount++;
+			}
+			this.mLastAnimationFrameTimeNanos = frameTimeNanos;
+		} else {
+			this.mLastAnimationFrameTimeNanos = 0;
+		}
+	}
+
+	/**
+	 * Records an animation frame with the specified <var>frameTimeNanos</var> that has been skipped.
+	 * Multiple calls for the same frame time are recorded only once.
+	 *
+	 * @param frameTimeNanos Time of the skipped frame in nanoseconds.
+	 */
+	void onFrameSkipped(long frameTimeNanos) {
+		if (mLastSkippedFrameTimeNanos != frameTimeNanos) {
+			this.mLastSkippedFrameTimeNanos = frameTimeNanos;
+			this.mSkippedFramesCount++;
+		}
+	}
+
+	/**
+	 * Records the specified <var>count</var> of animation frames that has been skipped.
+	 *
+	 * @param count Count of skipped frames.
+	 */
+	void onFramesSkipped(long count) {
+		this.mSkippedFramesCount += count;
+	}
+
+	/**
+	 * Returns the count of frames drawn by the drawable.
+	 *
+	 * @return Count of drawn frames.
+	 */
+	public long getDrawnFramesCount() {
+		return mDrawnFramesCount;
+	}
+
+	/**
+	 * Returns the count of animation frames that has been drawn later than expected, that is, the
+	 * interval between such frame and the previous one has been at least {@code 1.5} times longer
+	 * than the expected one.
+	 *
+	 * @return Count of late frames.
+	 */
+	public long getLateFramesCount() {
+		return mLateFramesCount;
+	}
+
+	/**
+	 * Returns the count of animation frames that has been scheduled but not drawn due to invisibility
+	 * or maximum frame rate of the drawable.
+	 *
+	 * @return Count of skipped frames.
+	 */
+	public long getSkippedFramesCount() {
+		return mSkippedFramesCount;
+	}
+
+	/**
+	 * Returns the total duration of drawing of all drawn frames.
+	 *
+	 * @return Total duration in nanoseconds.
+	 */
+	public long getTotalDrawDurationNanos() {
+		return mTotalDrawDurationNanos;
+	}
+
+	/**
+	 * Returns the average duration of drawing of a single frame.
+	 *
+	 * @return Average duration in nanoseconds or {@code 0} if no frame has been drawn yet.
+	 */
+	public long getAverageDrawDurationNanos() {
+		return mDrawnFramesCount > 0 ? mTotalDrawDurationNanos / mDrawnFramesCount : 0;
+	}
+
+	/**
+	 * Resets all statistics to their initial values.
+	 */
+	public void reset() {
+		this.mDrawnFramesCount = 0;
+		this.mLateFramesCount = 0;
+		this.mSkippedFramesCount = 0;
+		this.mTotalDrawDurationNanos = 0;
+		this.mLastAnimationFrameTimeNanos = 0;
+		this.mLastSkippedFrameTimeNanos = 0;
+	}
+
+	/**
+	 */
+	@Override
+	public String toString() {
+		//noinspection StringBufferReplaceableByString
+		final StringBuilder builder = new StringBuilder(ProgressFrameStats.class.getSimpleName() + "[");
+		builder.append("drawnFrames(");
+		builder.append(mDrawnFramesCount);
+		builder.append("), lateFrames(");
+		builder.append(mLateFramesCount);
+		builder.append("), skippedFrames(");
+		builder.append(mSkippedFramesCount);
+		builder.append("), averageDrawDurationNanos(");
+		builder.append(getAverageDrawDurationNanos());
+		return builder.append(")]").toString();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
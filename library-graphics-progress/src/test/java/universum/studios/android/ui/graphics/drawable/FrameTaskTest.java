@@ -0,0 +1,263 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import android.graphics.Color;
+import android.graphics.drawable.ColorDrawable;
+import android.graphics.drawable.Drawable;
+import android.graphics.drawable.InsetDrawable;
+import android.view.View;
+
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class FrameTaskTest extends RobolectricTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "FrameTaskTest";
+
+	private static final long FRAME_TIME = 1000000000L;
+
+	private Drawable mDrawable;
+	private TestTask mTask;
+
+	@Override
+	public void beforeTest() throws Exception {
+		super.beforeTest();
+		// Frames are dispatched only explicitly via doFrame(long).
+		ShadowLooper.pauseMainLooper();
+		this.mDrawable = new ColorDrawable(Color.BLACK);
+		this.mDrawable.setCallback(mock(Drawable.Callback.class));
+		this.mTask = new TestTask(mDrawable);
+	}
+
+	@Override
+	public void afterTest() throws Exception {
+		super.afterTest();
+		mTask.cancel();
+		ShadowLooper.unPauseMainLooper();
+	}
+
+	@Test
+	public void testFrameIntervals() {
+		assertThat(FrameTask.FRAME_INTERVAL_NANOS, is(16666666L));
+		assertThat(FrameTask.FRAME_INTERVAL_MILLIS, is(16.666666f));
+	}
+
+	@Test
+	public void testFirstFrameScale() {
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.size(), is(1));
+		assertThat(mTask.frameScales.get(0), is(1f));
+	}
+
+	@Test
+	public void testFrameScaleAt60Fps() {
+		mTask.rescheduleOnFrame = true;
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		doFrame(FRAME_TIME + FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.get(1), is(1f));
+	}
+
+	@Test
+	public void testFrameScaleAt120Fps() {
+		mTask.rescheduleOnFrame = true;
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		doFrame(FRAME_TIME + FrameTask.FRAME_INTERVAL_NANOS / 2);
+		assertThat(mTask.frameScales.get(1), is(0.5f));
+	}
+
+	@Test
+	public void testFrameScaleForDroppedFrames() {
+		mTask.rescheduleOnFrame = true;
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		doFrame(FRAME_TIME + 3 * FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.get(1), is(3f));
+	}
+
+	@Test
+	public void testFrameScaleIsClamped() {
+		mTask.rescheduleOnFrame = true;
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		doFrame(FRAME_TIME + 100 * FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.get(1), is(FrameTask.MAX_FRAME_SCALE));
+	}
+
+	@Test
+	public void testFrameScaleAfterScheduleOutsideOfFrame() {
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		mTask.schedule(0);
+		doFrame(FRAME_TIME + 3 * FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.get(1), is(1f));
+	}
+
+	@Test
+	public void testScheduleWithoutCallback() {
+		mDrawable.setCallback(null);
+		mTask.schedule(0);
+		assertThat(mTask.isScheduled(), is(false));
+	}
+
+	@Test
+	public void testFrameWithoutCallback() {
+		mTask.schedule(0);
+		mDrawable.setCallback(null);
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.isEmpty(), is(true));
+		assertThat(mTask.isScheduled(), is(false));
+	}
+
+	@Test
+	public void testSuspendAndResume() {
+		mTask.schedule(0);
+		mTask.suspend();
+		assertThat(mTask.isSuspended(), is(true));
+		assertThat(mTask.isScheduled(), is(false));
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.isEmpty(), is(true));
+		assertThat(mTask.resume(), is(true));
+		assertThat(mTask.isSuspended(), is(false));
+		assertThat(mTask.isScheduled(), is(true));
+		assertThat(mTask.resume(), is(false));
+	}
+
+	@Test
+	public void testSuspendNotScheduled() {
+		mTask.suspend();
+		assertThat(mTask.isSuspended(), is(false));
+		assertThat(mTask.resume(), is(false));
+	}
+
+	@Test
+	public void testFrameScaleAfterResume() {
+		mTask.rescheduleOnFrame = true;
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		mTask.suspend();
+		mTask.resume();
+		doFrame(FRAME_TIME + 100 * FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.get(1), is(1f));
+	}
+
+	@Test
+	public void testCancelSuspended() {
+		mTask.schedule(0);
+		mTask.suspend();
+		mTask.cancel();
+		assertThat(mTask.isSuspended(), is(false));
+		assertThat(mTask.resume(), is(false));
+	}
+
+	@Test
+	public void testFrameOfInvisibleDrawable() {
+		mTask.schedule(0);
+		mDrawable.setVisible(false, false);
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.isEmpty(), is(true));
+		assertThat(mTask.isSuspended(), is(true));
+		assertThat(mTask.isScheduled(), is(false));
+		mDrawable.setVisible(true, false);
+		assertThat(mTask.resume(), is(true));
+		doFrame(FRAME_TIME + FrameTask.FRAME_INTERVAL_NANOS);
+		assertThat(mTask.frameScales.size(), is(1));
+		assertThat(mTask.frameScales.get(0), is(1f));
+	}
+
+	@Test
+	public void testFramesOverMaxFrameRate() {
+		final ProgressDrawable drawable = new CircularProgressDrawable();
+		drawable.setCallback(mock(Drawable.Callback.class));
+		drawable.setMaxFrameRate(30);
+		drawable.setFrameStatsEnabled(true);
+		final TestTask task = new TestTask(drawable);
+		task.rescheduleOnFrame = true;
+		task.schedule(0);
+		// Every other vsync at 60 Hz is skipped for the drawable capped at 30 fps.
+		for (int i = 0; i <= 6; i++) {
+			doFrame(FRAME_TIME + i * FrameTask.FRAME_INTERVAL_NANOS);
+		}
+		task.cancel();
+		assertThat(task.frameScales.size(), is(4));
+		assertThat(task.frameScales.get(0), is(1f));
+		for (int i = 1; i < task.frameScales.size(); i++) {
+			assertThat(Math.abs(task.frameScales.get(i) - 2f) < 0.01f, is(true));
+		}
+		assertThat(drawable.getFrameStats().getSkippedFramesCount(), is(3L));
+	}
+
+	@Test
+	public void testFrameOfDrawableWithDetachedHost() {
+		mDrawable.setCallback(new View(mApplication));
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.isEmpty(), is(true));
+		assertThat(mTask.isSuspended(), is(true));
+		assertThat(mTask.isScheduled(), is(false));
+		assertThat(FrameTicker.getInstance().getTasksCount(), is(0));
+	}
+
+	@Test
+	public void testFrameOfWrappedDrawableWithDetachedHost() {
+		final Drawable wrapper = new InsetDrawable(mDrawable, 0);
+		wrapper.setCallback(new View(mApplication));
+		mTask.schedule(0);
+		doFrame(FRAME_TIME);
+		assertThat(mTask.frameScales.isEmpty(), is(true));
+		assertThat(mTask.isSuspended(), is(true));
+		assertThat(FrameTicker.getInstance().getTasksCount(), is(0));
+	}
+
+	private static void doFrame(long frameTimeNanos) {
+		FrameTicker.getInstance().doFrame(frameTimeNanos);
+	}
+
+	private static final class TestTask extends FrameTask {
+
+		final List<Float> frameScales = new ArrayList<>();
+		boolean rescheduleOnFrame;
+
+		TestTask(Drawable drawable) {
+			super(drawable);
+		}
+
+		@Override
+		void onFrame(float frameScale) {
+			frameScales.add(frameScale);
+			if (rescheduleOnFrame) schedule(0);
+		}
+	}
+}
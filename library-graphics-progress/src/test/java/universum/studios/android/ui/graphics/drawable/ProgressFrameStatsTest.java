@@ -0,0 +1,113 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.graphics.drawable;
+
+import org.junit.Test;
+
+import universum.studios.android.test.local.LocalTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class ProgressFrameStatsTest extends LocalTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "ProgressFrameStatsTest";
+
+	private static final long FRAME_TIME = 1000000000L;
+	private static final long FRAME_INTERVAL = 16666666L;
+
+	@Test
+	public void testInstantiation() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		assertThat(stats.getDrawnFramesCount(), is(0L));
+		assertThat(stats.getLateFramesCount(), is(0L));
+		assertThat(stats.getSkippedFramesCount(), is(0L));
+		assertThat(stats.getTotalDrawDurationNanos(), is(0L));
+		assertThat(stats.getAverageDrawDurationNanos(), is(0L));
+	}
+
+	@Test
+	public void testDrawDuration() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		stats.onFrameDrawn(FRAME_TIME, 1000, false, FRAME_INTERVAL);
+		stats.onFrameDrawn(FRAME_TIME + FRAME_INTERVAL, 3000, false, FRAME_INTERVAL);
+		assertThat(stats.getDrawnFramesCount(), is(2L));
+		assertThat(stats.getTotalDrawDurationNanos(), is(4000L));
+		assertThat(stats.getAverageDrawDurationNanos(), is(2000L));
+	}
+
+	@Test
+	public void testLateFrames() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		stats.onFrameDrawn(FRAME_TIME, 0, true, FRAME_INTERVAL);
+		stats.onFrameDrawn(FRAME_TIME + FRAME_INTERVAL, 0, true, FRAME_INTERVAL);
+		assertThat(stats.getLateFramesCount(), is(0L));
+		// Frame within the threshold is not late.
+		stats.onFrameDrawn(FRAME_TIME + FRAME_INTERVAL + (long) (FRAME_INTERVAL * ProgressFrameStats.LATE_FRAME_THRESHOLD), 0, true, FRAME_INTERVAL);
+		assertThat(stats.getLateFramesCount(), is(0L));
+		stats.onFrameDrawn(FRAME_TIME + 10 * FRAME_INTERVAL, 0, true, FRAME_INTERVAL);
+		assertThat(stats.getLateFramesCount(), is(1L));
+		assertThat(stats.getDrawnFramesCount(), is(4L));
+	}
+
+	@Test
+	public void testLateFramesWhileNotAnimating() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		stats.onFrameDrawn(FRAME_TIME, 0, true, FRAME_INTERVAL);
+		stats.onFrameDrawn(FRAME_TIME + 10 * FRAME_INTERVAL, 0, false, FRAME_INTERVAL);
+		// First animation frame after the animation has been stopped is never late.
+		stats.onFrameDrawn(FRAME_TIME + 20 * FRAME_INTERVAL, 0, true, FRAME_INTERVAL);
+		assertThat(stats.getLateFramesCount(), is(0L));
+	}
+
+	@Test
+	public void testSkippedFrames() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		stats.onFrameSkipped(FRAME_TIME);
+		// Frame skipped by multiple tasks is counted only once.
+		stats.onFrameSkipped(FRAME_TIME);
+		stats.onFrameSkipped(FRAME_TIME + FRAME_INTERVAL);
+		assertThat(stats.getSkippedFramesCount(), is(2L));
+		stats.onFramesSkipped(3);
+		assertThat(stats.getSkippedFramesCount(), is(5L));
+	}
+
+	@Test
+	public void testReset() {
+		final ProgressFrameStats stats = new ProgressFrameStats();
+		stats.onFrameDrawn(FRAME_TIME, 1000, true, FRAME_INTERVAL);
+		stats.onFrameDrawn(FRAME_TIME + 10 * FRAME_INTERVAL, 1000, true, FRAME_INTERVAL);
+		stats.onFrameSkipped(FRAME_TIME);
+		stats.reset();
+		assertThat(stats.getDrawnFramesCount(), is(0L));
+		assertThat(stats.getLateFramesCount(), is(0L));
+		assertThat(stats.getSkippedFramesCount(), is(0L));
+		assertThat(stats.getTotalDrawDurationNanos(), is(0L));
+		// Frame skipped before reset is counted again after reset.
+		stats.onFrameSkipped(FRAME_TIME);
+		assertThat(stats.getSkippedFramesCount(), is(1L));
+		// First animation frame after reset is never late.
+		stats.onFrameDrawn(FRAME_TIME + 20 * FRAME_INTERVAL, 0, true, FRAME_INTERVAL);
+		assertThat(stats.getLateFramesCount(), is(0L));
+	}
+}
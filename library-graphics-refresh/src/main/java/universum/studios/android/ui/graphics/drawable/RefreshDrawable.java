@@ -182,6 +182,20 @@ public class RefreshDrawable extends DrawableWrapper implements Animatable {
 		return mDrawable.isRunning();
 	}
 
+	/**
+	 * Delegate method for {@link CircularProgressDrawable#setMaxFrameRate(int)}.
+	 */
+	public void setMaxFrameRate(int frameRate) {
+		mDrawable.setMaxFrameRate(frameRate);
+	}
+
+	/**
+	 * Delegate method for {@link CircularProgressDrawable#getMaxFrameRate()}.
+	 */
+	public int getMaxFrameRate() {
+		return mDrawable.getMaxFrameRate();
+	}
+
 	/**
 	 * Returns this drawable instance.
 	 */
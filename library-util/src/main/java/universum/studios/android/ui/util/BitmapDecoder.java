@@ -0,0 +1,462 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.util;
+
+import android.content.ContentResolver;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.net.Uri;
+import android.os.Build;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.IntDef;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * Utility class that can be used to decode {@link Bitmap Bitmaps} directly in a size that is
+ * requested for their presentation, without decoding the full resolution image first.
+ * <p>
+ * Decoding via {@link #decode(Source, int, int, int, BitmapPool)} runs the following pipeline:
+ * <ol>
+ * <li>only bounds of the image are probed,</li>
+ * <li>the image is decoded with the largest power of 2 {@link BitmapFactory.Options#inSampleSize}
+ * that still keeps it at least as large as the requested size, re-using a bitmap from the given
+ * {@link BitmapPool} (if any) as {@link BitmapFactory.Options#inBitmap},</li>
+ * <li>the decoded image is cropped and scaled to the exact requested size in a single draw
+ * pass.</li>
+ * </ol>
+ *
+ * @author Martin Albedinsky
+ */
+public final class BitmapDecoder {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Interface for sources of encoded images that may be decoded via {@link BitmapDecoder}. As
+	 * the decoding pipeline needs to read the encoded image more than once, the source must be
+	 * able to open a new stream for each read.
+	 *
+	 * @author Martin Albedinsky
+	 */
+	public interface Source {
+
+		/**
+		 * Opens a new input stream with data of the encoded image.
+		 *
+		 * @return Stream to read. The caller is responsible for closing of the stream.
+		 * @throws IOException If the stream cannot be opened.
+		 */
+		@NonNull
+		InputStream openStream() throws IOException;
+	}
+
+	/**
+	 * Defines an annotation for determining set of allowed scale modes for
+	 * {@link #decode(Source, int, int, int, BitmapPool)} method.
+	 */
+	@IntDef({SCALE_FIT_INSIDE, SCALE_CENTER_CROP})
+	@Retention(RetentionPolicy.SOURCE)
+	public @interface ScaleMode {
+	}
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "BitmapDecoder";
+
+	/**
+	 * Scale mode which scales the image so it fits inside of the requested size while preserving
+	 * its aspect ratio. One of dimensions of the decoded bitmap may be smaller than requested.
+	 */
+	public static final int SCALE_FIT_INSIDE = 0;
+
+	/**
+	 * Scale mode which scales the image so it fills the requested size while preserving its
+	 * aspect ratio and crops its center. The decoded bitmap has exactly the requested size.
+	 */
+	public static final int SCALE_CENTER_CROP = 1;
+
+	/**
+	 * Boolean flag indicating whether a bitmap may be re-used as
+	 * {@link BitmapFactory.Options#inBitmap} also for sampled decoding.
+	 */
+	private static final boolean REUSE_SAMPLED = Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT;
+
+	/**
+	 * Config used for decoded bitmaps.
+	 */
+	private static final Bitmap.Config CONFIG = Bitmap.Config.ARGB_8888;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private BitmapDecoder() {
+		// Creation of instances of this class is not publicly allowed.
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a source for an image stored within raw resource or drawable with the specified
+	 * <var>resId</var>.
+	 *
+	 * @param resources The resources used to open the image.
+	 * @param resId     Resource id of the desired image.
+	 * @return Source that may be decoded.
+	 */
+	@NonNull
+	public static Source fromResource(@NonNull final Resources resources,
+			@DrawableRes final int resId) {
+		return new Source() {
+
+			/**
+			 */
+			@NonNull
+			@Override
+			public InputStream openStream() throws IOException {
+				try {
+					return resources.openRawResource(resId);
+				} catch (Resources.NotFoundException e) {
+					throw new IOException(e.getMessage());
+				}
+			}
+		};
+	}
+
+	/**
+	 * Creates a source for an image stored within a file at the specified <var>path</var>.
+	 *
+	 * @param path Path to the desired image file.
+	 * @return Source that may be decoded.
+	 */
+	@NonNull
+	public static Source fromFile(@NonNull final String path) {
+		return new Source() {
+
+			/**
+			 */
+			@NonNull
+			@Override
+			public InputStream openStream() throws IOException {
+				return new BufferedInputStream(new FileInputStream(path));
+			}
+		};
+	}
+
+	/**
+	 * Creates a source for an image with the specified <var>uri</var>.
+	 *
+	 * @param contentResolver Content resolver used to open the image.
+	 * @param uri             Uri of the desired image.
+	 * @return Source that may be decoded.
+	 */
+	@NonNull
+	public static Source fromUri(@NonNull final ContentResolver contentResolver,
+			@NonNull final Uri uri) {
+		return new Source() {
+
+			/**
+			 */
+			@NonNull
+			@Override
+			public InputStream openStream() throws IOException {
+				final InputStream stream = contentResolver.openInputStream(uri);
+				if (stream == null) {
+					throw new FileNotFoundException("Failed to open stream for uri(" + uri + ").");
+				}
+				return new BufferedInputStream(stream);
+			}
+		};
+	}
+
+	/**
+	 * Creates a source for an image encoded within the given <var>data</var>.
+	 *
+	 * @param data Data of the desired image.
+	 * @return Source that may be decoded.
+	 */
+	@NonNull
+	public static Source fromBytes(@NonNull final byte[] data) {
+		return new Source() {
+
+			/**
+			 */
+			@NonNull
+			@Override
+			public InputStream openStream() {
+				return new ByteArrayInputStream(data);
+			}
+		};
+	}
+
+	/**
+	 * Probes bounds of the image provided by the given <var>source</var> without decoding its
+	 * pixels.
+	 *
+	 * @param source Source of the desired image.
+	 * @return Options with {@link BitmapFactory.Options#outWidth},
+	 * {@link BitmapFactory.Options#outHeight} and {@link BitmapFactory.Options#outMimeType} of the
+	 * image or {@code null} if the image could not be probed.
+	 */
+	@Nullable
+	public static BitmapFactory.Options decodeBounds(@NonNull Source source) {
+		final BitmapFactory.Options options = new BitmapFactory.Options();
+		options.inJustDecodeBounds = true;
+		decodeStream(source, options);
+		return options.outWidth > 0 && options.outHeight > 0 ? options : null;
+	}
+
+	/**
+	 * Computes the largest power of 2 sample size for an image with the specified dimensions that
+	 * keeps the sampled image at least as large as needed to be scaled into the requested size
+	 * using the specified <var>scaleMode</var>.
+	 *
+	 * @param width           Width of the image.
+	 * @param height          Height of the image.
+	 * @param requestedWidth  The requested width.
+	 * @param requestedHeight The requested height.
+	 * @param scaleMode       The scale mode to be used.
+	 * @return Sample size suitable for {@link BitmapFactory.Options#inSampleSize}.
+	 */
+	public static int computeSampleSize(int width, int height, int requestedWidth,
+			int requestedHeight, @ScaleMode int scaleMode) {
+		final float scale = computeScale(width, height, requestedWidth, requestedHeight, scaleMode);
+		int sampleSize = 1;
+		while (sampleSize * 2 * scale <= 1) {
+			sampleSize *= 2;
+		}
+		return sampleSize;
+	}
+
+	/**
+	 * Computes a scale ratio used to scale an image with the specified dimensions into the
+	 * requested size.
+	 */
+	private static float computeScale(int width, int height, int requestedWidth,
+			int requestedHeight, int scaleMode) {
+		final float widthRatio = requestedWidth / (float) width;
+		final float heightRatio = requestedHeight / (float) height;
+		return scaleMode == SCALE_CENTER_CROP ?
+				Math.max(widthRatio, heightRatio) :
+				Math.min(widthRatio, heightRatio);
+	}
+
+	/**
+	 * Same as {@link #decode(Source, int, int, int, BitmapPool)} without bitmap pool.
+	 */
+	@Nullable
+	public static Bitmap decode(@NonNull Source source, int requestedWidth, int requestedHeight,
+			@ScaleMode int scaleMode) {
+		return decode(source, requestedWidth, requestedHeight, scaleMode, null);
+	}
+
+	/**
+	 * Decodes the image provided by the given <var>source</var> in the requested size.
+	 *
+	 * @param source          Source of the desired image.
+	 * @param requestedWidth  The requested width or {@code 0} to use width of the image.
+	 * @param requestedHeight The requested height or {@code 0} to use height of the image.
+	 * @param scaleMode       Mode determining how to scale the image into the requested size.
+	 *                        One of {@link #SCALE_FIT_INSIDE} or {@link #SCALE_CENTER_CROP}.
+	 * @param pool            Pool from which to obtain bitmaps to be re-used for decoding and
+	 *                        into which to release intermediate bitmaps. May be {@code null}.
+	 * @return Decoded bitmap or {@code null} if the image could not be decoded.
+	 */
+	@Nullable
+	public static Bitmap decode(@NonNull Source source, int requestedWidth, int requestedHeight,
+			@ScaleMode int scaleMode, @Nullable BitmapPool pool) {
+		final BitmapFactory.Options bounds = decodeBounds(source);
+		if (bounds == null) {
+			return null;
+		}
+		final int width = bounds.outWidth;
+		final int height = bounds.outHeight;
+		if (requestedWidth <= 0) requestedWidth = width;
+		if (requestedHeight <= 0) requestedHeight = height;
+		final BitmapFactory.Options options = new BitmapFactory.Options();
+		options.inSampleSize = computeSampleSize(
+				width,
+				height,
+				requestedWidth,
+				requestedHeight,
+				scaleMode
+		);
+		options.inPreferredConfig = CONFIG;
+		options.inMutable = true;
+		if (pool != null && (REUSE_SAMPLED || options.inSampleSize == 1)) {
+			options.inBitmap = pool.obtain(
+					divideRoundingUp(width, options.inSampleSize),
+					divideRoundingUp(height, options.inSampleSize),
+					CONFIG
+			);
+		}
+		Bitmap decoded;
+		try {
+			decoded = decodeStream(source, options);
+		} catch (IllegalArgumentException e) {
+			// The pooled bitmap could not be re-used for this image, so decode it into a new one.
+			if (options.inBitmap == null) throw e;
+			pool.release(options.inBitmap);
+			options.inBitmap = null;
+			decoded = decodeStream(source, options);
+		}
+		if (decoded == null) {
+			// Do not lose the pooled bitmap if the image could not be decoded.
+			if (options.inBitmap != null) pool.release(options.inBitmap);
+			return null;
+		}
+		return cropAndScale(decoded, requestedWidth, requestedHeight, scaleMode, pool);
+	}
+
+	/**
+	 * Crops and scales the given <var>bitmap</var> into the requested size in a single draw pass.
+	 * <p>
+	 * The bitmap is only scaled down, never up, as upscaled bitmap would occupy more memory without
+	 * any visual gain. Bitmap smaller than the requested size should be scaled by its view at the
+	 * draw time.
+	 *
+	 * @param bitmap          The bitmap to be cropped and scaled. This bitmap is released into
+	 *                        the given pool (or recycled if there is no pool) if a new bitmap
+	 *                        is created.
+	 * @param requestedWidth  The requested width.
+	 * @param requestedHeight The requested height.
+	 * @param scaleMode       Mode determining how to scale the bitmap into the requested size.
+	 * @param pool            Pool from which to obtain the result bitmap. May be {@code null}.
+	 * @return The cropped and scaled bitmap or the given one if its size already matches.
+	 */
+	@NonNull
+	@SuppressWarnings("NewApi")
+	public static Bitmap cropAndScale(@NonNull Bitmap bitmap, int requestedWidth,
+			int requestedHeight, @ScaleMode int scaleMode, @Nullable BitmapPool pool) {
+		final int width = bitmap.getWidth();
+		final int height = bitmap.getHeight();
+		final float scale = Math.min(1, computeScale(
+				width,
+				height,
+				requestedWidth,
+				requestedHeight,
+				scaleMode
+		));
+		final int resultWidth, resultHeight;
+		final Rect srcRect = new Rect(0, 0, width, height);
+		if (scaleMode == SCALE_CENTER_CROP) {
+			final int cropWidth = Math.min(width, Math.round(requestedWidth / scale));
+			final int cropHeight = Math.min(height, Math.round(requestedHeight / scale));
+			resultWidth = Math.max(1, Math.round(cropWidth * scale));
+			resultHeight = Math.max(1, Math.round(cropHeight * scale));
+			srcRect.offset((width - cropWidth) / 2, (height - cropHeight) / 2);
+			srcRect.right = srcRect.left + cropWidth;
+			srcRect.bottom = srcRect.top + cropHeight;
+		} else {
+			resultWidth = Math.max(1, Math.round(width * scale));
+			resultHeight = Math.max(1, Math.round(height * scale));
+		}
+		if (resultWidth == width && resultHeight == height) {
+			return bitmap;
+		}
+		Bitmap result = pool == null ? null : pool.obtain(resultWidth, resultHeight, CONFIG);
+		if (result != null) {
+			if (result.getWidth() != resultWidth || result.getHeight() != resultHeight ||
+					result.getConfig() != CONFIG) {
+				result.reconfigure(resultWidth, resultHeight, CONFIG);
+			}
+			result.eraseColor(Color.TRANSPARENT);
+		} else {
+			result = Bitmap.createBitmap(resultWidth, resultHeight, CONFIG);
+		}
+		result.setDensity(bitmap.getDensity());
+		final Canvas canvas = new Canvas(result);
+		canvas.drawBitmap(
+				bitmap,
+				srcRect,
+				new Rect(0, 0, resultWidth, resultHeight),
+				new Paint(Paint.FILTER_BITMAP_FLAG)
+		);
+		if (pool == null) bitmap.recycle();
+		else pool.release(bitmap);
+		return result;
+	}
+
+	/**
+	 * Divides the specified <var>value</var> by the <var>divisor</var> rounding up the result.
+	 */
+	private static int divideRoundingUp(int value, int divisor) {
+		return (value + divisor - 1) / divisor;
+	}
+
+	/**
+	 * Decodes the image provided by the given <var>source</var> with the specified
+	 * <var>options</var>.
+	 */
+	private static Bitmap decodeStream(Source source, BitmapFactory.Options options) {
+		InputStream stream = null;
+		try {
+			stream = source.openStream();
+			return BitmapFactory.decodeStream(stream, null, options);
+		} catch (IOException e) {
+			return null;
+		} finally {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (IOException e) {
+					// Ignored.
+				}
+			}
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
@@ -0,0 +1,293 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.util;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A pool of {@link Bitmap Bitmaps} that may be re-used as
+ * {@link android.graphics.BitmapFactory.Options#inBitmap} when decoding new bitmaps via
+ * {@link BitmapDecoder}, so decoding of images does not need to allocate a new pixel buffer each
+ * time.
+ * <p>
+ * Bitmaps are pooled by their size in bytes. On {@link Build.VERSION_CODES#KITKAT KitKat} and
+ * above Android versions any pooled bitmap large enough, but at most twice as large as required,
+ * may be re-used, on older versions only a bitmap with exactly the same dimensions and config.
+ * Total size of the pooled bitmaps is bounded by a memory budget, the least recently released
+ * bitmaps are recycled first when the budget is exceeded.
+ *
+ * @author Martin Albedinsky
+ */
+public final class BitmapPool {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "BitmapPool";
+
+	/**
+	 * Boolean flag indicating whether a pooled bitmap may be re-used for a bitmap with different
+	 * dimensions or not.
+	 */
+	static final boolean REUSE_BY_ALLOCATION = Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT;
+
+	/**
+	 * Maximum ratio between size of a pooled bitmap and the required size for which may be such
+	 * bitmap re-used, so small bitmaps do not occupy large pixel buffers.
+	 */
+	static final int MAX_REUSE_SIZE_RATIO = 2;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Maximum count of bytes of all pooled bitmaps.
+	 */
+	private final int mMaxSize;
+
+	/**
+	 * Current count of bytes of all pooled bitmaps.
+	 */
+	private int mSize;
+
+	/**
+	 * Pooled bitmaps mapped to their size in bytes.
+	 */
+	private final TreeMap<Integer, List<Bitmap>> mBitmaps = new TreeMap<>();
+
+	/**
+	 * Pooled bitmaps in the order in which they have been released into this pool. Used to
+	 * recycle the oldest bitmaps when the budget is exceeded.
+	 */
+	private final Map<Bitmap, Integer> mReleaseOrder = new LinkedHashMap<>();
+
+	/**
+	 * Counts of bitmaps obtained from this pool and of requests that could not be satisfied.
+	 */
+	private int mHitCount, mMissCount;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of BitmapPool with the specified memory budget.
+	 *
+	 * @param maxSize Maximum count of bytes of all pooled bitmaps.
+	 */
+	public BitmapPool(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Max size must be greater than 0.");
+		}
+		this.mMaxSize = maxSize;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the count of bytes occupied by pixels of the specified <var>bitmap</var>.
+	 * <p>
+	 * On {@link Build.VERSION_CODES#KITKAT KitKat} and above Android versions this is the size of
+	 * the whole pixel buffer of the bitmap, which may be larger than its visible size if the bitmap
+	 * has been decoded into a re-used pooled bitmap.
+	 *
+	 * @param bitmap The bitmap of which size to compute.
+	 * @return Size in bytes.
+	 */
+	@SuppressWarnings("NewApi")
+	public static int sizeOf(@NonNull Bitmap bitmap) {
+		return REUSE_BY_ALLOCATION ?
+				bitmap.getAllocationByteCount() :
+				bitmap.getRowBytes() * bitmap.getHeight();
+	}
+
+	/**
+	 * Returns the count of bytes per pixel for the specified <var>config</var>.
+	 */
+	static int bytesPerPixel(Bitmap.Config config) {
+		if (config == Bitmap.Config.ALPHA_8) return 1;
+		if (config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444) return 2;
+		return 4;
+	}
+
+	/**
+	 * Obtains a pooled bitmap that may be re-used for a bitmap with the specified dimensions and
+	 * config. The obtained bitmap is removed from this pool.
+	 *
+	 * @param width  The desired width of bitmap.
+	 * @param height The desired height of bitmap.
+	 * @param config The desired config of bitmap.
+	 * @return Re-usable bitmap or {@code null} if there is no such bitmap pooled.
+	 */
+	@Nullable
+	public synchronized Bitmap obtain(int width, int height, @NonNull Bitmap.Config config) {
+		final int requiredSize = width * height * bytesPerPixel(config);
+		final long maxSize = (long) requiredSize * MAX_REUSE_SIZE_RATIO;
+		Map.Entry<Integer, List<Bitmap>> entry = mBitmaps.ceilingEntry(requiredSize);
+		while (entry != null) {
+			if (REUSE_BY_ALLOCATION ? entry.getKey() > maxSize : entry.getKey() != requiredSize) {
+				break;
+			}
+			final Iterator<Bitmap> iterator = entry.getValue().iterator();
+			while (iterator.hasNext()) {
+				final Bitmap bitmap = iterator.next();
+				if (canReuse(bitmap, width, height, config)) {
+					iterator.remove();
+					if (entry.getValue().isEmpty()) mBitmaps.remove(entry.getKey());
+					mReleaseOrder.remove(bitmap);
+					this.mSize -= entry.getKey();
+					this.mHitCount++;
+					return bitmap;
+				}
+			}
+			entry = mBitmaps.higherEntry(entry.getKey());
+		}
+		this.mMissCount++;
+		return null;
+	}
+
+	/**
+	 * Checks whether the given <var>bitmap</var> may be re-used for a bitmap with the specified
+	 * dimensions and config.
+	 */
+	private static boolean canReuse(Bitmap bitmap, int width, int height, Bitmap.Config config) {
+		if (bitmap.isRecycled() || !bitmap.isMutable()) return false;
+		if (REUSE_BY_ALLOCATION) return true;
+		return bitmap.getWidth() == width && bitmap.getHeight() == height &&
+				bitmap.getConfig() == config;
+	}
+
+	/**
+	 * Releases the given <var>bitmap</var> into this pool so it may be re-used later. Bitmaps that
+	 * are immutable or larger than the budget of this pool are recycled immediately.
+	 * <p>
+	 * <b>Note</b>, that the released bitmap must not be used by the caller anymore.
+	 *
+	 * @param bitmap The bitmap to be released.
+	 */
+	public synchronized void release(@NonNull Bitmap bitmap) {
+		if (bitmap.isRecycled() || mReleaseOrder.containsKey(bitmap)) {
+			return;
+		}
+		final int size = sizeOf(bitmap);
+		if (!bitmap.isMutable() || size > mMaxSize) {
+			bitmap.recycle();
+			return;
+		}
+		List<Bitmap> bitmaps = mBitmaps.get(size);
+		if (bitmaps == null) {
+			mBitmaps.put(size, bitmaps = new ArrayList<>(2));
+		}
+		bitmaps.add(bitmap);
+		mReleaseOrder.put(bitmap, size);
+		this.mSize += size;
+		trimToSize(mMaxSize);
+	}
+
+	/**
+	 * Recycles the least recently released bitmaps until size of this pool is not greater than
+	 * the specified <var>maxSize</var>.
+	 */
+	private void trimToSize(int maxSize) {
+		final Iterator<Map.Entry<Bitmap, Integer>> iterator = mReleaseOrder.entrySet().iterator();
+		while (mSize > maxSize && iterator.hasNext()) {
+			final Map.Entry<Bitmap, Integer> entry = iterator.next();
+			final Bitmap bitmap = entry.getKey();
+			final int size = entry.getValue();
+			iterator.remove();
+			final List<Bitmap> bitmaps = mBitmaps.get(size);
+			bitmaps.remove(bitmap);
+			if (bitmaps.isEmpty()) mBitmaps.remove(size);
+			this.mSize -= size;
+			bitmap.recycle();
+		}
+	}
+
+	/**
+	 * Returns the maximum count of bytes of all pooled bitmaps.
+	 *
+	 * @return Budget of this pool in bytes.
+	 */
+	public int getMaxSize() {
+		return mMaxSize;
+	}
+
+	/**
+	 * Returns the current count of bytes of all pooled bitmaps.
+	 *
+	 * @return Size of this pool in bytes.
+	 */
+	public synchronized int getSize() {
+		return mSize;
+	}
+
+	/**
+	 * Returns the count of requests for which has been a pooled bitmap obtained.
+	 *
+	 * @return Count of hits.
+	 */
+	public synchronized int getHitCount() {
+		return mHitCount;
+	}
+
+	/**
+	 * Returns the count of requests for which there has not been any re-usable bitmap pooled.
+	 *
+	 * @return Count of misses.
+	 */
+	public synchronized int getMissCount() {
+		return mMissCount;
+	}
+
+	/**
+	 * Recycles all pooled bitmaps.
+	 */
+	public synchronized void clear() {
+		trimToSize(0);
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
@@ -24,6 +24,9 @@ import android.support.annotation.NonNull;
 /**
  * Utility class that can be used for {@link Bitmap} modifications like <b>scaling</b>, <b>cropping</b>.
  *
+ * @deprecated Use {@link BitmapDecoder} to decode bitmaps directly in the size requested for their
+ * presentation or {@link BitmapDecoder#cropAndScale(Bitmap, int, int, int, BitmapPool)} to crop
+ * and scale already decoded bitmaps.
  * @author Martin Albedinsky
  */
 @Deprecated
@@ -22,6 +22,7 @@ import android.content.res.ColorStateList;
 import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
+import android.support.annotation.ColorInt;
 import android.support.annotation.ColorRes;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.NonNull;
@@ -149,6 +150,27 @@ public final class ResourceUtils {
 		else return ACCESS_LOLLIPOP ? getDrawable(resources, resId, theme) : VectorDrawableCompat.create(resources, resId, theme);
 	}
 
+	/**
+	 * Obtains vector drawable with the specified <var>resId</var> rasterized into a bitmap of the
+	 * requested size and tint using the given <var>resources</var>.
+	 * <p>
+	 * The rasterized bitmaps are shared via {@link VectorBitmapCache}. If the cache is not enabled,
+	 * this method returns the same result as {@link #getVectorDrawable(Resources, int, Resources.Theme)}.
+	 *
+	 * @param resources The resources that should be used to obtain the vector drawable.
+	 * @param resId     Resource id of the desired vector drawable to obtain.
+	 * @param theme     Theme that will be used to resolve theme attributes for the requested drawable.
+	 * @param width     The desired width in pixels or {@code 0} to use intrinsic width of the vector.
+	 * @param height    The desired height in pixels or {@code 0} to use intrinsic height of the vector.
+	 * @param tintColor Color with which to tint the rasterized vector or {@code 0} to not apply any tint.
+	 * @return Instance of the requested drawable or {@code null} if the specified resource id is {@code 0}.
+	 * @see VectorBitmapCache#obtain(Resources, int, Resources.Theme, int, int, int)
+	 */
+	@Nullable
+	public static Drawable getRasterizedVectorDrawable(@NonNull Resources resources, @DrawableRes int resId, @Nullable Resources.Theme theme, int width, int height, @ColorInt int tintColor) throws Resources.NotFoundException {
+		return VectorBitmapCache.obtain(resources, resId, theme, width, height, tintColor);
+	}
+
 	/**
 	 * Obtains drawable with the specified <var>resId</var> using the given <var>resources</var>.
 	 * <p>
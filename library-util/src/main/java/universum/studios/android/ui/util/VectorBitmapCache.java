@@ -0,0 +1,430 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.util;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffColorFilter;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
+import android.support.annotation.ColorInt;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.graphics.drawable.VectorDrawableCompat;
+import android.util.LruCache;
+import android.util.SparseBooleanArray;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A cache of vector drawables rasterized into bitmaps. Vector icons that are displayed many times
+ * with the same size and tint (like icons within toolbars or list items) may be obtained via
+ * {@link #obtain(Resources, int, Resources.Theme, int, int, int)}, so their xml is parsed and
+ * their paths are rendered only once and all subsequent requests share the same bitmap.
+ * <p>
+ * Rasterized bitmaps are cached by a key composed of resource id of the vector drawable, screen
+ * density, <b>size bucket</b>, tint color and theme instance. The requested sizes are rounded up
+ * to a multiple of {@link #SIZE_BUCKET} pixels, so slightly different sizes share a single bitmap.
+ * Themes are referenced only weakly by the cache, so bitmaps rasterized for a theme that is no
+ * longer used are never returned and are evicted as the least recently used ones.
+ * Bitmaps are evicted in the least recently used order whenever their total size exceeds the
+ * memory budget specified via {@link #setMemoryBudget(int)}.
+ * <p>
+ * The cache is <b>disabled</b> by default. Use {@link #setEnabled(boolean)} to enable it.
+ *
+ * @author Martin Albedinsky
+ */
+public final class VectorBitmapCache {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "VectorBitmapCache";
+
+	/**
+	 * Size in pixels of a single bucket to which are rounded up the requested sizes of rasterized
+	 * vectors.
+	 */
+	public static final int SIZE_BUCKET = 8;
+
+	/**
+	 * Default memory budget of the cache in bytes. Equals to 1/64 of the maximum memory available
+	 * for the application.
+	 */
+	public static final int DEFAULT_MEMORY_BUDGET = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 64);
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Lock used to synchronize access to the cache.
+	 */
+	private static final Object LOCK = new Object();
+
+	/**
+	 * Boolean flag indicating whether the cache is enabled or not.
+	 */
+	private static volatile boolean sEnabled;
+
+	/**
+	 * Lru cache holding the rasterized bitmaps.
+	 */
+	private static BitmapLruCache sBitmaps = new BitmapLruCache(DEFAULT_MEMORY_BUDGET);
+
+	/**
+	 * Set of resource ids of drawables that cannot be rasterized (are not vectors or are stateful).
+	 */
+	private static final SparseBooleanArray NOT_RASTERIZABLE = new SparseBooleanArray();
+
+	/**
+	 * Key re-used for look ups in the cache so a look up does not allocate.
+	 */
+	private static final Key LOOKUP_KEY = new Key();
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private VectorBitmapCache() {
+		// Creation of instances of this class is not publicly allowed.
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Sets a boolean flag indicating whether the vector bitmap cache should be enabled or not.
+	 * Disabling of the cache also evicts all cached bitmaps.
+	 *
+	 * @param enabled {@code True} to enable the cache, {@code false} to disable it.
+	 * @see #isEnabled()
+	 */
+	public static void setEnabled(boolean enabled) {
+		sEnabled = enabled;
+		if (!enabled) clear();
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether the vector bitmap cache is enabled or not.
+	 *
+	 * @return {@code True} if the cache is enabled, {@code false} otherwise.
+	 * @see #setEnabled(boolean)
+	 */
+	public static boolean isEnabled() {
+		return sEnabled;
+	}
+
+	/**
+	 * Sets a memory budget for the vector bitmap cache. All currently cached bitmaps are evicted.
+	 *
+	 * @param bytes The desired budget in bytes. Default is {@link #DEFAULT_MEMORY_BUDGET}.
+	 * @see #getMemoryBudget()
+	 */
+	public static void setMemoryBudget(int bytes) {
+		if (bytes <= 0) {
+			throw new IllegalArgumentException("Memory budget must be greater than 0.");
+		}
+		synchronized (LOCK) {
+			sBitmaps.evictAll();
+			sBitmaps = new BitmapLruCache(bytes);
+		}
+	}
+
+	/**
+	 * Returns the memory budget of the vector bitmap cache.
+	 *
+	 * @return Budget in bytes.
+	 * @see #setMemoryBudget(int)
+	 */
+	public static int getMemoryBudget() {
+		synchronized (LOCK) {
+			return sBitmaps.maxSize();
+		}
+	}
+
+	/**
+	 * Returns the count of bytes occupied by the currently cached bitmaps.
+	 *
+	 * @return Size of the cache in bytes.
+	 */
+	public static int getSize() {
+		synchronized (LOCK) {
+			return sBitmaps.size();
+		}
+	}
+
+	/**
+	 * Obtains a drawable with the rasterized vector drawable with the specified <var>resId</var>.
+	 * If the cache is not enabled or the requested drawable cannot be rasterized (it is not a vector
+	 * drawable or it is stateful), the drawable is obtained via
+	 * {@link ResourceUtils#getVectorDrawable(Resources, int, Resources.Theme)} as is.
+	 *
+	 * @param resources The resources that should be used to obtain the vector drawable.
+	 * @param resId     Resource id of the desired vector drawable to obtain.
+	 * @param theme     Theme that will be used to resolve theme attributes for the requested drawable.
+	 * @param width     The desired width in pixels or {@code 0} to use intrinsic width of the vector.
+	 * @param height    The desired height in pixels or {@code 0} to use intrinsic height of the vector.
+	 * @param tintColor Color with which to tint the rasterized vector or {@link Color#TRANSPARENT}
+	 *                  to not apply any tint.
+	 * @return Drawable with the rasterized vector or the vector drawable itself, {@code null} if
+	 * the specified resource id is {@code 0}.
+	 */
+	@Nullable
+	public static Drawable obtain(@NonNull Resources resources, @DrawableRes int resId, @Nullable Resources.Theme theme, int width, int height, @ColorInt int tintColor) throws Resources.NotFoundException {
+		if (resId == 0) return null;
+		if (!sEnabled) return ResourceUtils.getVectorDrawable(resources, resId, theme);
+		final int density = resources.getDisplayMetrics().densityDpi;
+		final int bucketWidth = bucketSize(width);
+		final int bucketHeight = bucketSize(height);
+		synchronized (LOCK) {
+			if (NOT_RASTERIZABLE.get(resId)) {
+				return ResourceUtils.getVectorDrawable(resources, resId, theme);
+			}
+			final Bitmap bitmap = sBitmaps.get(LOOKUP_KEY.set(resId, density, bucketWidth, bucketHeight, tintColor, theme));
+			// Do not hold the theme strongly after the look up.
+			LOOKUP_KEY.theme = null;
+			if (bitmap != null) {
+				return new BitmapDrawable(resources, bitmap);
+			}
+		}
+		final Drawable drawable = ResourceUtils.getVectorDrawable(resources, resId, theme);
+		if (drawable == null || !isRasterizable(drawable)) {
+			synchronized (LOCK) {
+				NOT_RASTERIZABLE.put(resId, true);
+			}
+			return drawable;
+		}
+		final int bitmapWidth = bucketWidth > 0 ? bucketWidth : drawable.getIntrinsicWidth();
+		final int bitmapHeight = bucketHeight > 0 ? bucketHeight : drawable.getIntrinsicHeight();
+		if (bitmapWidth <= 0 || bitmapHeight <= 0) {
+			return drawable;
+		}
+		final Bitmap bitmap = rasterize(drawable, bitmapWidth, bitmapHeight, tintColor, density);
+		synchronized (LOCK) {
+			if (bitmap.getRowBytes() * bitmap.getHeight() > sBitmaps.maxSize()) {
+				return drawable;
+			}
+			sBitmaps.put(new Key().set(resId, density, bucketWidth, bucketHeight, tintColor, theme).referenceThemeWeakly(), bitmap);
+		}
+		return new BitmapDrawable(resources, bitmap);
+	}
+
+	/**
+	 * Rounds up the specified <var>size</var> to a multiple of {@link #SIZE_BUCKET}.
+	 */
+	private static int bucketSize(int size) {
+		return size > 0 ? ((size + SIZE_BUCKET - 1) / SIZE_BUCKET) * SIZE_BUCKET : 0;
+	}
+
+	/**
+	 * Checks whether the given <var>drawable</var> may be rasterized into a bitmap without losing
+	 * any of its features.
+	 */
+	@SuppressWarnings("NewApi")
+	private static boolean isRasterizable(Drawable drawable) {
+		if (drawable.isStateful()) return false;
+		return drawable instanceof VectorDrawableCompat ||
+				(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && drawable instanceof android.graphics.drawable.VectorDrawable);
+	}
+
+	/**
+	 * Renders the given <var>drawable</var> into a new bitmap with the specified size.
+	 */
+	private static Bitmap rasterize(Drawable drawable, int width, int height, int tintColor, int density) {
+		final Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+		bitmap.setDensity(density);
+		if (tintColor != Color.TRANSPARENT) {
+			drawable.mutate().setColorFilter(new PorterDuffColorFilter(tintColor, PorterDuff.Mode.SRC_IN));
+		}
+		drawable.setBounds(0, 0, width, height);
+		drawable.draw(new Canvas(bitmap));
+		return bitmap;
+	}
+
+	/**
+	 * Evicts all bitmaps from the vector bitmap cache. The evicted bitmaps are not recycled as they
+	 * may be still displayed.
+	 */
+	public static void clear() {
+		synchronized (LOCK) {
+			sBitmaps.evictAll();
+			NOT_RASTERIZABLE.clear();
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * A {@link LruCache} implementation which measures size of the cached bitmaps in bytes.
+	 */
+	private static final class BitmapLruCache extends LruCache<Key, Bitmap> {
+
+		/**
+		 * Creates a new instance of BitmapLruCache with the specified memory <var>budget</var>.
+		 *
+		 * @param budget Maximum count of bytes of the cached bitmaps.
+		 */
+		BitmapLruCache(int budget) {
+			super(budget);
+		}
+
+		/**
+		 */
+		@Override
+		protected int sizeOf(Key key, Bitmap bitmap) {
+			return bitmap.getRowBytes() * bitmap.getHeight();
+		}
+	}
+
+	/**
+	 * Key identifying a single rasterized vector within the cache.
+	 */
+	private static final class Key {
+
+		/**
+		 * Resource id of the rasterized vector drawable.
+		 */
+		int resId;
+
+		/**
+		 * Density of the screen for which has been the vector rasterized.
+		 */
+		int density;
+
+		/**
+		 * Bucketed width and height of the rasterized vector or {@code 0} for its intrinsic size.
+		 */
+		int width, height;
+
+		/**
+		 * Color with which has been the vector tinted.
+		 */
+		int tintColor;
+
+		/**
+		 * Theme used to resolve theme attributes of the vector. Held strongly only by a key used
+		 * for look ups.
+		 */
+		Resources.Theme theme;
+
+		/**
+		 * Weak reference to the theme held by a key stored in the cache.
+		 */
+		WeakReference<Resources.Theme> themeReference;
+
+		/**
+		 * Identity hash of the theme, so the hash of this key does not change when the theme is
+		 * garbage collected.
+		 */
+		int themeHash;
+
+		/**
+		 * Sets up this key with the specified values.
+		 *
+		 * @return This key to allow methods chaining.
+		 */
+		Key set(int resId, int density, int width, int height, int tintColor, Resources.Theme theme) {
+			this.resId = resId;
+			this.density = density;
+			this.width = width;
+			this.height = height;
+			this.tintColor = tintColor;
+			this.theme = theme;
+			this.themeHash = System.identityHashCode(theme);
+			return this;
+		}
+
+		/**
+		 * Replaces the strong reference to the theme of this key with a weak one.
+		 *
+		 * @return This key to allow methods chaining.
+		 */
+		Key referenceThemeWeakly() {
+			if (theme != null) {
+				this.themeReference = new WeakReference<>(theme);
+				this.theme = null;
+			}
+			return this;
+		}
+
+		/**
+		 * Returns the theme of this key.
+		 *
+		 * @return The theme or {@code null} if this key has no theme or its theme has been already
+		 * garbage collected.
+		 */
+		Resources.Theme getTheme() {
+			return themeReference == null ? theme : themeReference.get();
+		}
+
+		/**
+		 */
+		@Override
+		public boolean equals(Object other) {
+			if (other == this) return true;
+			if (!(other instanceof Key)) return false;
+			final Key key = (Key) other;
+			if (resId != key.resId || density != key.density || width != key.width ||
+					height != key.height || tintColor != key.tintColor || themeHash != key.themeHash) {
+				return false;
+			}
+			final Resources.Theme theme = getTheme();
+			// Key with garbage collected theme does not match any other key.
+			return theme == null ?
+					themeReference == null && key.themeReference == null && key.theme == null :
+					theme == key.getTheme();
+		}
+
+		/**
+		 */
+		@Override
+		public int hashCode() {
+			int hash = resId;
+			hash = 31 * hash + density;
+			hash = 31 * hash + width;
+			hash = 31 * hash + height;
+			hash = 31 * hash + tintColor;
+			hash = 31 * hash + themeHash;
+			return hash;
+		}
+	}
+}
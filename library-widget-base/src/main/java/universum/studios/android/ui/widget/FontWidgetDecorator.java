@@ -54,6 +54,11 @@ abstract class FontWidgetDecorator<W extends View & FontWidget> extends WidgetDe
 	 */
 	// private static final String TAG = "FontWidgetDecorator";
 
+	/**
+	 * Attributes used to obtain resource id of the text appearance style from which to apply font.
+	 */
+	private static final int[] TEXT_APPEARANCE_ATTRS = {android.R.attr.textAppearance};
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -89,7 +94,7 @@ abstract class FontWidgetDecorator<W extends View & FontWidget> extends WidgetDe
 		if (!mWidget.isInEditMode()) {
 			final Resources.Theme theme = context.getTheme();
 			// Try to apply font presented within text appearance style.
-			final TypedArray appearanceAttributes = theme.obtainStyledAttributes(attrs, new int[]{android.R.attr.textAppearance}, defStyleAttr, defStyleRes);
+			final TypedArray appearanceAttributes = theme.obtainStyledAttributes(attrs, TEXT_APPEARANCE_ATTRS, defStyleAttr, defStyleRes);
 			final int appearance = appearanceAttributes.getResourceId(0, -1);
 			if (appearance != -1) {
 				FontApplier.DEFAULT.applyFont(mWidget, appearance);
@@ -40,6 +40,7 @@ import universum.studios.android.ui.R;
 import universum.studios.android.ui.UiConfig;
 import universum.studios.android.ui.graphics.drawable.TintDrawable;
 import universum.studios.android.ui.util.ResourceUtils;
+import universum.studios.android.ui.util.VectorBitmapCache;
 
 /**
  * A WidgetDecorator is used within all widgets from the UI library that are derived directly from
@@ -163,6 +164,9 @@ abstract class WidgetDecorator<W extends View> implements Widget, ErrorWidget {
 
 	/**
 	 * Inflates an instance of VectorDrawableCompat from the given <var>resId</var>.
+	 * <p>
+	 * If {@link VectorBitmapCache} is enabled, the vector is rasterized in its intrinsic size and
+	 * the rasterized bitmap is shared with all other widgets displaying the same vector.
 	 *
 	 * @param resId Resource id of the vector drawable to inflate.
 	 * @return Instance of inflated vector drawable or {@code null} if the drawable failed to be inflated.
@@ -170,7 +174,7 @@ abstract class WidgetDecorator<W extends View> implements Widget, ErrorWidget {
 	@Nullable
 	@SuppressLint("NewApi")
 	Drawable inflateVectorDrawable(@DrawableRes int resId) {
-		return ResourceUtils.getVectorDrawable(mWidget.getResources(), resId, mWidget.getContext().getTheme());
+		return ResourceUtils.getRasterizedVectorDrawable(mWidget.getResources(), resId, mWidget.getContext().getTheme(), 0, 0, Color.TRANSPARENT);
 	}
 
 	/**
@@ -20,6 +20,8 @@ package universum.studios.android.ui.widget;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
+import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Canvas;
 import android.graphics.Color;
@@ -31,11 +33,13 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
 import android.text.TextUtils;
+import android.util.SparseArray;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
+import java.util.WeakHashMap;
 
-import universum.studios.android.font.Font;
 import universum.studios.android.ui.R;
 
 /**
@@ -47,6 +51,10 @@ import universum.studios.android.ui.R;
  * and then values for the desired attributes can be specified vie one of setter methods or they can
  * be parsed form a desired <b>text appearance</b> style via {@link #fromStyle(Context, int)} and than
  * accessed via one of getter methods.
+ * <p>
+ * Attributes parsed from a specific style are cached for each theme as an immutable snapshot, so
+ * subsequent calls to {@link #fromStyle(Context, int)} for the same style within the same theme
+ * only copy values from such snapshot instead of parsing the style again.
  *
  * @author Martin Albedinsky
  */
@@ -108,6 +116,12 @@ public final class TextAppearance {
 	 */
 	public static final ColorStateList TEXT_COLORS = ColorStateList.valueOf(Color.BLACK);
 
+	/**
+	 * Map with caches of text appearance snapshots parsed from styles within a specific theme.
+	 * Themes are held weakly so the snapshots are released together with their themes.
+	 */
+	private static final Map<Resources.Theme, StyleCache> STYLE_CACHES = new WeakHashMap<>();
+
 	/*
 	 * Members =====================================================================================
 	 */
@@ -173,33 +187,125 @@ public final class TextAppearance {
 	 * otherwise.
 	 */
 	public boolean fromStyle(@NonNull Context context, @StyleRes int resId) {
-		this.reset();
+		final Snapshot snapshot = obtainSnapshot(context, resId);
+		this.mTextSize = snapshot.textSize;
+		this.mTextColors = snapshot.textColors;
+		this.mTextStyle = snapshot.textStyle;
+		this.mTypefaceIndex = snapshot.typefaceIndex;
+		this.mFontFamily = snapshot.fontFamily;
+		this.mTypeface = snapshot.typeface;
+		return snapshot.parsed;
+	}
+
+	/**
+	 * Obtains a snapshot of text appearance attributes parsed from the specified <var>resId</var>
+	 * style within the current theme of the given <var>context</var>. If there is no such snapshot
+	 * cached yet or configuration of the theme's resources has changed since it has been cached,
+	 * the style is parsed and the new snapshot is cached.
+	 *
+	 * @param context Context used to parse text appearance attributes from the specified style resource.
+	 * @param resId   Resource id of the desired TextAppearance style from which to parse attributes.
+	 * @return Snapshot with the parsed attributes.
+	 */
+	private static Snapshot obtainSnapshot(Context context, int resId) {
+		final Resources.Theme theme = context.getTheme();
+		final Configuration configuration = context.getResources().getConfiguration();
+		synchronized (STYLE_CACHES) {
+			final StyleCache cache = STYLE_CACHES.get(theme);
+			if (cache != null && cache.configuration.equals(configuration)) {
+				final Snapshot snapshot = cache.snapshots.get(resId);
+				if (snapshot != null) {
+					return snapshot;
+				}
+			}
+		}
+		// Parse the style outside of the lock so other threads are not blocked by loading of fonts.
+		final Snapshot snapshot = parseSnapshot(context, resId);
+		synchronized (STYLE_CACHES) {
+			StyleCache cache = STYLE_CACHES.get(theme);
+			if (cache == null || !cache.configuration.equals(configuration)) {
+				cache = new StyleCache(configuration);
+				STYLE_CACHES.put(theme, cache);
+			}
+			final Snapshot cachedSnapshot = cache.snapshots.get(resId);
+			if (cachedSnapshot != null) {
+				return cachedSnapshot;
+			}
+			cache.snapshots.put(resId, snapshot);
+			return snapshot;
+		}
+	}
+
+	/**
+	 * Parses a snapshot of text appearance attributes from the specified <var>resId</var> style.
+	 *
+	 * @param context Context used to parse text appearance attributes from the specified style resource.
+	 * @param resId   Resource id of the desired TextAppearance style from which to parse attributes.
+	 * @return New snapshot with the parsed attributes.
+	 */
+	private static Snapshot parseSnapshot(Context context, int resId) {
+		float textSize = -1;
+		ColorStateList textColors = null;
+		int textStyle = -1;
+		int typefaceIndex = -1;
+		String fontFamily = null;
+		Typeface typeface = null;
+		boolean parsed = false;
 		final TypedArray typedArray = context.obtainStyledAttributes(resId, R.styleable.Ui_TextAppearance);
 		if (typedArray != null) {
 			final int n = typedArray.getIndexCount();
 			for (int i = 0; i < n; i++) {
 				final int index = typedArray.getIndex(i);
 				if (index == R.styleable.Ui_TextAppearance_android_textSize) {
-					this.mTextSize = typedArray.getDimensionPixelSize(index, (int) mTextSize);
+					textSize = typedArray.getDimensionPixelSize(index, (int) textSize);
 				} else if (index == R.styleable.Ui_TextAppearance_android_textColor) {
-					this.mTextColors = typedArray.getColorStateList(index);
+					textColors = typedArray.getColorStateList(index);
 				} else if (index == R.styleable.Ui_TextAppearance_android_textStyle) {
-					this.mTextStyle = typedArray.getInt(index, mTextStyle);
+					textStyle = typedArray.getInt(index, textStyle);
 				} else if (index == R.styleable.Ui_TextAppearance_android_typeface) {
-					this.mTypefaceIndex = typedArray.getInt(index, mTypefaceIndex);
+					typefaceIndex = typedArray.getInt(index, typefaceIndex);
 				} else if (index == R.styleable.Ui_TextAppearance_android_fontFamily) {
-					this.mFontFamily = typedArray.getString(index);
+					fontFamily = typedArray.getString(index);
 				} else if (index == R.styleable.Ui_TextAppearance_uiFont) {
 					final String fontPath = typedArray.getString(index);
 					if (!TextUtils.isEmpty(fontPath)) {
-						this.mTypeface = Font.create(fontPath).getTypeface(context);
+						typeface = TypefaceCache.obtainFont(context, fontPath);
 					}
 				}
 			}
 			typedArray.recycle();
-			return n > 0;
+			parsed = n > 0;
+		}
+		return new Snapshot(textSize, textColors, textStyle, typefaceIndex, fontFamily, typeface, parsed);
+	}
+
+	/**
+	 * Parses and caches a snapshot of text appearance attributes from the specified <var>resId</var>
+	 * style and resolves typeface for its font family (if specified) via {@link TypefaceCache}.
+	 *
+	 * @param context Context used to parse text appearance attributes from the specified style resource.
+	 * @param resId   Resource id of the desired TextAppearance style from which to parse attributes.
+	 * @see TypefaceCache#prewarm(Context, int...)
+	 */
+	static void prewarmStyle(Context context, int resId) {
+		final Snapshot snapshot = obtainSnapshot(context, resId);
+		if (!TextUtils.isEmpty(snapshot.fontFamily)) {
+			TypefaceCache.obtain(snapshot.fontFamily, snapshot.textStyle);
+		}
+	}
+
+	/**
+	 * Clears all snapshots of text appearance attributes cached for styles parsed via
+	 * {@link #fromStyle(Context, int)}.
+	 * <p>
+	 * Snapshots are invalidated automatically whenever configuration of the theme's resources
+	 * changes. This method should be called only when attributes of a theme are modified in place,
+	 * for example via {@link Resources.Theme#applyStyle(int, boolean)}.
+	 */
+	public static void clearStyleCache() {
+		synchronized (STYLE_CACHES) {
+			STYLE_CACHES.clear();
 		}
-		return false;
 	}
 
 	/**
@@ -364,7 +470,7 @@ public final class TextAppearance {
 		if (mTypeface == null || mInvalidateTypeface) {
 			this.mInvalidateTypeface = false;
 			if (!TextUtils.isEmpty(mFontFamily)) {
-				this.mTypeface = Typeface.create(mFontFamily, mTextStyle);
+				this.mTypeface = TypefaceCache.obtain(mFontFamily, mTextStyle);
 			} else {
 				switch (mTypefaceIndex) {
 					case SANS_SERIF:
@@ -596,4 +702,85 @@ public final class TextAppearance {
 	/*
 	 * Inner classes ===============================================================================
 	 */
+
+	/**
+	 * Cache of text appearance snapshots parsed within a single theme along with configuration for
+	 * which have been such snapshots parsed.
+	 */
+	private static final class StyleCache {
+
+		/**
+		 * Configuration of the theme's resources at the time when this cache has been created.
+		 */
+		final Configuration configuration;
+
+		/**
+		 * Snapshots mapped to resource ids of styles from which they have been parsed.
+		 */
+		final SparseArray<Snapshot> snapshots = new SparseArray<>();
+
+		/**
+		 * Creates a new instance of StyleCache for the specified <var>configuration</var>.
+		 *
+		 * @param configuration Current configuration of the theme's resources. A copy of this
+		 *                      configuration will be stored.
+		 */
+		StyleCache(Configuration configuration) {
+			this.configuration = new Configuration(configuration);
+		}
+	}
+
+	/**
+	 * Immutable snapshot of text appearance attributes parsed from a single style.
+	 */
+	private static final class Snapshot {
+
+		/**
+		 * Parsed text size in pixels or {@code -1} if not specified.
+		 */
+		final float textSize;
+
+		/**
+		 * Parsed text colors or {@code null} if not specified.
+		 */
+		final ColorStateList textColors;
+
+		/**
+		 * Parsed text style or {@code -1} if not specified.
+		 */
+		final int textStyle;
+
+		/**
+		 * Parsed typeface index or {@code -1} if not specified.
+		 */
+		final int typefaceIndex;
+
+		/**
+		 * Parsed font family or {@code null} if not specified.
+		 */
+		final String fontFamily;
+
+		/**
+		 * Typeface created from the parsed font path or {@code null} if not specified.
+		 */
+		final Typeface typeface;
+
+		/**
+		 * Boolean flag indicating whether at least one attribute has been parsed or not.
+		 */
+		final boolean parsed;
+
+		/**
+		 * Creates a new instance of Snapshot with the specified attribute values.
+		 */
+		Snapshot(float textSize, ColorStateList textColors, int textStyle, int typefaceIndex, String fontFamily, Typeface typeface, boolean parsed) {
+			this.textSize = textSize;
+			this.textColors = textColors;
+			this.textStyle = textStyle;
+			this.typefaceIndex = typefaceIndex;
+			this.fontFamily = fontFamily;
+			this.typeface = typeface;
+			this.parsed = parsed;
+		}
+	}
 }
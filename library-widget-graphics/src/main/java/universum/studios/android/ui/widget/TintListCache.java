@@ -0,0 +1,217 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.content.res.ColorStateList;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
+
+/**
+ * A bounded cache used by {@link TintManager} to share instances of {@link ColorStateList} created
+ * as tint lists for the common widgets. Tint lists are cached by a key composed of kind of the tint
+ * list, primary tint color and colors resolved from the current theme, so widgets with the same
+ * tint share a single immutable tint list instead of each creating its own copy.
+ *
+ * @author Martin Albedinsky
+ */
+final class TintListCache {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "TintListCache";
+
+	/**
+	 * Maximum count of tint lists that may be cached at the same time.
+	 */
+	static final int MAX_SIZE = 64;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Lru cache holding the cached tint lists.
+	 */
+	private final LruCache<Key, ColorStateList> mLists;
+
+	/**
+	 * Key re-used for look ups in the cache so a look up does not allocate.
+	 */
+	private final Key mLookupKey = new Key();
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of TintListCache with the specified <var>maxSize</var>.
+	 *
+	 * @param maxSize Maximum count of tint lists to be cached.
+	 */
+	TintListCache(int maxSize) {
+		this.mLists = new LruCache<>(maxSize);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the tint list cached for the specified key parameters.
+	 *
+	 * @param kind        Kind of the requested tint list.
+	 * @param tintColor   Primary tint color of the requested tint list.
+	 * @param themeColors Theme colors used to create the requested tint list.
+	 * @return Cached tint list or {@code null} if there is no tint list cached for such key.
+	 * @see #put(int, int, int[], ColorStateList)
+	 */
+	@Nullable
+	synchronized ColorStateList get(int kind, int tintColor, @NonNull int[] themeColors) {
+		return mLists.get(mLookupKey.set(kind, tintColor, themeColors));
+	}
+
+	/**
+	 * Puts the given <var>tintList</var> into this cache for the specified key parameters.
+	 *
+	 * @param kind        Kind of the tint list.
+	 * @param tintColor   Primary tint color of the tint list.
+	 * @param themeColors Theme colors used to create the tint list.
+	 * @param tintList    The tint list to be cached.
+	 * @see #get(int, int, int[])
+	 */
+	synchronized void put(int kind, int tintColor, @NonNull int[] themeColors, @NonNull ColorStateList tintList) {
+		mLists.put(new Key().set(kind, tintColor, themeColors), tintList);
+	}
+
+	/**
+	 * Returns the count of look ups that returned a cached tint list.
+	 *
+	 * @return Hit count.
+	 */
+	synchronized int hitCount() {
+		return mLists.hitCount();
+	}
+
+	/**
+	 * Returns the count of look ups that did not find any cached tint list.
+	 *
+	 * @return Miss count.
+	 */
+	synchronized int missCount() {
+		return mLists.missCount();
+	}
+
+	/**
+	 * Removes all tint lists from this cache.
+	 */
+	synchronized void clear() {
+		mLists.evictAll();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Key identifying a single tint list within the cache.
+	 */
+	private static final class Key {
+
+		/**
+		 * Kind of the tint list.
+		 */
+		int kind;
+
+		/**
+		 * Primary tint color.
+		 */
+		int tintColor;
+
+		/**
+		 * Theme color for normal state.
+		 */
+		int colorNormal;
+
+		/**
+		 * Theme color for disabled state.
+		 */
+		int colorDisabled;
+
+		/**
+		 * Theme color for error state.
+		 */
+		int colorError;
+
+		/**
+		 * Updates values of this key to the specified ones.
+		 *
+		 * @param kind        Kind of the tint list.
+		 * @param tintColor   Primary tint color.
+		 * @param themeColors Theme colors for normal, disabled and error state.
+		 * @return This key to allow methods chaining.
+		 */
+		Key set(int kind, int tintColor, int[] themeColors) {
+			this.kind = kind;
+			this.tintColor = tintColor;
+			this.colorNormal = themeColors[0];
+			this.colorDisabled = themeColors[1];
+			this.colorError = themeColors[2];
+			return this;
+		}
+
+		/**
+		 */
+		@Override
+		public int hashCode() {
+			int hash = kind;
+			hash = 31 * hash + tintColor;
+			hash = 31 * hash + colorNormal;
+			hash = 31 * hash + colorDisabled;
+			return 31 * hash + colorError;
+		}
+
+		/**
+		 */
+		@Override
+		public boolean equals(Object other) {
+			if (other == this) return true;
+			if (!(other instanceof Key)) return false;
+			final Key key = (Key) other;
+			return kind == key.kind &&
+					tintColor == key.tintColor &&
+					colorNormal == key.colorNormal &&
+					colorDisabled == key.colorDisabled &&
+					colorError == key.colorError;
+		}
+	}
+}
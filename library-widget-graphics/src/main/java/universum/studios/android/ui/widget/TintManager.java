@@ -21,6 +21,7 @@ package universum.studios.android.ui.widget;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
 import android.graphics.Color;
@@ -35,9 +36,12 @@ import android.util.TypedValue;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import universum.studios.android.graphics.Colors;
 import universum.studios.android.ui.R;
+import universum.studios.android.ui.graphics.drawable.TintFilterPool;
 
 /**
  * Manager used to create tint lists for the most commonly used widgets.
@@ -161,6 +165,57 @@ public final class TintManager {
 	 */
 	private static final int THEME_COLOR_INDEX_ERROR = 2;
 
+	/**
+	 * Kind of tint list for background of EditText widget.
+	 */
+	private static final int TINT_LIST_EDIT_TEXT = 1;
+
+	/**
+	 * Kind of tint list for text of label widget.
+	 */
+	private static final int TINT_LIST_LABEL = 2;
+
+	/**
+	 * Kind of tint list for background of Button widget.
+	 */
+	private static final int TINT_LIST_BUTTON_BACKGROUND = 3;
+
+	/**
+	 * Kind of tint list for CompoundButton based widget.
+	 */
+	private static final int TINT_LIST_COMPOUND_BUTTON = 4;
+
+	/**
+	 * Kind of tint list for thumb of SeekBar widget.
+	 */
+	private static final int TINT_LIST_SEEK_BAR_THUMB = 5;
+
+	/**
+	 * Kind of tint list for progress background of SeekBar widget.
+	 */
+	private static final int TINT_LIST_SEEK_BAR_PROGRESS_BACKGROUND = 6;
+
+	/**
+	 * Kind of tint list for number selection indicator of NumberPicker widget.
+	 */
+	private static final int TINT_LIST_NUMBER_PICKER_INDICATOR = 7;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Cache with tint lists shared by all widgets that request tint list of the same kind, with the
+	 * same tint color and within the same theme.
+	 */
+	private static final TintListCache TINT_LIST_CACHE = new TintListCache(TintListCache.MAX_SIZE);
+
+	/**
+	 * Map with snapshots of tint colors resolved for themes. Themes are held weakly so the snapshots
+	 * are released together with their themes.
+	 */
+	private static final Map<Resources.Theme, ThemeColors> THEME_COLORS = new WeakHashMap<>();
+
 	/*
 	 * Methods =====================================================================================
 	 */
@@ -195,18 +250,220 @@ public final class TintManager {
 		}
 	}
 	/**
-	 * Creates a new instance of ColorStateList as tint list for background of EditText widget.
+	 * Returns a tint list for background of EditText widget.
 	 *
 	 * @param context   Context used to resolve theme attributes that can be used to create the
 	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
-	 * @return New instance of ColorStateList specific for background of EditText widget.
+	 * @return Shared instance of ColorStateList specific for background of EditText widget or
+	 * {@code null} if the specified tint color is transparent.
 	 */
 	@Nullable
 	static ColorStateList createEditTextTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_EDIT_TEXT, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for text of label widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for text of label widget or {@code null}
+	 * if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createLabelTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_LABEL, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for background of Button widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for background of Button widget or
+	 * {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createButtonBackgroundTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_BUTTON_BACKGROUND, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for CompoundButton based widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for CompoundButton based widget or
+	 * {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createCompoundButtonTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_COMPOUND_BUTTON, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for thumb of SeekBar widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for thumb of SeekBar widget or {@code null}
+	 * if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createSeekBarThumbTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_SEEK_BAR_THUMB, tintColor);
+	}
+
+	/**
+	 * Creates a new instance of ColorStateList as tint list for progress of SeekBar widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return New instance of ColorStateList specific for progress of SeekBar widget.
+	 */
+	@Nullable
+	static ColorStateList createSeekBarProgressTintColors(@NonNull Context context, int tintColor) {
+		return tintColor != Color.TRANSPARENT ? ColorStateList.valueOf(tintColor) : null;
+	}
+
+	/**
+	 * Returns a tint list for progress background of SeekBar widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for progress background of SeekBar widget
+	 * or {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createSeekBarProgressBackgroundTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_SEEK_BAR_PROGRESS_BACKGROUND, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for background of Spinner widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared instance of ColorStateList specific for background of Spinner widget or
+	 * {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createSpinnerTintColors(@NonNull Context context, int tintColor) {
+		return createEditTextTintColors(context, tintColor);
+	}
+
+	/**
+	 * Returns a tint list for number selection indicator of NumberPicker widget.
+	 *
+	 * @param context   Context used to resolve theme attributes that can be used to create the
+	 *                  requested tint list.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared ColorStateList instance or {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	static ColorStateList createNumberPickerIndicatorTintColors(@NonNull Context context, int tintColor) {
+		return obtainTintColors(context, TINT_LIST_NUMBER_PICKER_INDICATOR, tintColor);
+	}
+
+	/**
+	 * Returns the count of requests for a tint list that have been satisfied by an already created
+	 * and cached tint list.
+	 *
+	 * @return Tint lists cache hit count.
+	 * @see #getTintListCacheMissCount()
+	 */
+	public static int getTintListCacheHitCount() {
+		return TINT_LIST_CACHE.hitCount();
+	}
+
+	/**
+	 * Returns the count of requests for a tint list that required creation of a new tint list.
+	 *
+	 * @return Tint lists cache miss count.
+	 * @see #getTintListCacheHitCount()
+	 */
+	public static int getTintListCacheMissCount() {
+		return TINT_LIST_CACHE.missCount();
+	}
+
+	/**
+	 * Clears all tint lists cached by this manager.
+	 */
+	public static void clearTintListCache() {
+		TINT_LIST_CACHE.clear();
+	}
+
+	/**
+	 * Obtains a tint list of the specified <var>kind</var> for the specified <var>tintColor</var>
+	 * either from the tint lists cache or creates a new one and caches it.
+	 *
+	 * @param context   Context used to resolve theme colors for the requested tint list.
+	 * @param kind      Kind of the requested tint list. One of {@code TINT_LIST_...} constants.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @return Shared ColorStateList instance or {@code null} if the specified tint color is transparent.
+	 */
+	@Nullable
+	private static ColorStateList obtainTintColors(Context context, int kind, int tintColor) {
+		if (tintColor == Color.TRANSPARENT) {
+			return null;
+		}
 		final int[] colors = obtainThemeColors(context);
+		ColorStateList tintList = TINT_LIST_CACHE.get(kind, tintColor, colors);
+		if (tintList == null) {
+			tintList = createTintColors(kind, tintColor, colors);
+			TINT_LIST_CACHE.put(kind, tintColor, colors, tintList);
+		}
+		return tintList;
+	}
+
+	/**
+	 * Creates a new instance of ColorStateList as tint list of the specified <var>kind</var>.
+	 *
+	 * @param kind      Kind of the tint list to create. One of {@code TINT_LIST_...} constants.
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
+	 * @return New ColorStateList instance.
+	 */
+	@NonNull
+	private static ColorStateList createTintColors(int kind, int tintColor, int[] colors) {
+		switch (kind) {
+			case TINT_LIST_EDIT_TEXT:
+				return createEditTextTintColors(tintColor, colors);
+			case TINT_LIST_LABEL:
+				return createLabelTintColors(tintColor, colors);
+			case TINT_LIST_BUTTON_BACKGROUND:
+				return createButtonBackgroundTintColors(tintColor);
+			case TINT_LIST_COMPOUND_BUTTON:
+				return createCompoundButtonTintColors(tintColor, colors);
+			case TINT_LIST_SEEK_BAR_THUMB:
+				return createSeekBarThumbTintColors(tintColor, colors);
+			case TINT_LIST_SEEK_BAR_PROGRESS_BACKGROUND:
+				return createSeekBarProgressBackgroundTintColors(colors);
+			case TINT_LIST_NUMBER_PICKER_INDICATOR:
+				return createNumberPickerIndicatorTintColors(tintColor, colors);
+			default:
+				throw new IllegalArgumentException("Unknown tint list kind(" + kind + ").");
+		}
+	}
+
+	/**
+	 * Creates a new instance of ColorStateList as tint list for background of EditText widget.
+	 *
+	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
+	 * @return New instance of ColorStateList specific for background of EditText widget.
+	 */
+	private static ColorStateList createEditTextTintColors(int tintColor, int[] colors) {
 		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-			return tintColor != Color.TRANSPARENT ? new ColorStateList(
+			return new ColorStateList(
 					new int[][]{
 							// Enabled states ------------------------------------------------------
 							WidgetStateSet.ENABLED_ERROR,
@@ -228,9 +485,9 @@ public final class TintManager {
 							// Disabled state colors -----------------------------------------------
 							colors[1]
 					}
-			) : null;
+			);
 		}
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ------------------------------------------------------
 						WidgetStateSet.ENABLED_ERROR,
@@ -250,24 +507,21 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						colors[THEME_COLOR_INDEX_DISABLED]
 				}
-		) : null;
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for text of label widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
 	 * @return New instance of ColorStateList specific for text of label widget.
 	 */
-	@Nullable
-	static ColorStateList createLabelTintColors(@NonNull Context context, int tintColor) {
-		final int[] colors = obtainThemeColors(context);
+	private static ColorStateList createLabelTintColors(int tintColor, int[] colors) {
 		final int normalColor = colors[THEME_COLOR_INDEX_NORMAL];
 		final int disabledColor = colors[THEME_COLOR_INDEX_DISABLED];
 		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-			return tintColor != Color.TRANSPARENT ? new ColorStateList(
+			return new ColorStateList(
 					new int[][]{
 							// Enabled states ------------------------------------------------------
 							WidgetStateSet.ENABLED_ACTIVATED,
@@ -282,9 +536,9 @@ public final class TintManager {
 							// Disabled state colors -----------------------------------------------
 							disabledColor
 					}
-			) : null;
+			);
 		}
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED_SELECTED,
@@ -299,21 +553,18 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						disabledColor
 				}
-		) : null;
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for background of Button widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
 	 * @return New instance of ColorStateList specific for background of Button widget.
 	 */
-	@Nullable
-	static ColorStateList createButtonBackgroundTintColors(@NonNull Context context, int tintColor) {
+	private static ColorStateList createButtonBackgroundTintColors(int tintColor) {
 		final int colorPressed = Colors.darker(tintColor, 0.1f);
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED_PRESSED,
@@ -330,23 +581,20 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						COLOR_DISABLED_BUTTON
 				}
-		) : null;
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for CompoundButton based widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
 	 * @return New instance of ColorStateList specific for CompoundButton based widget.
 	 */
-	@Nullable
-	static ColorStateList createCompoundButtonTintColors(@NonNull Context context, int tintColor) {
-		final int[] colors = obtainThemeColors(context);
+	private static ColorStateList createCompoundButtonTintColors(int tintColor, int[] colors) {
 		final int colorNormal = colors[THEME_COLOR_INDEX_NORMAL];
 		final int colorDisabled = colors[THEME_COLOR_INDEX_DISABLED];
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED_CHECKED_PRESSED,
@@ -369,21 +617,18 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						colorDisabled
 				}
-		) : null;
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for thumb of SeekBar widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
 	 * @return New instance of ColorStateList specific for thumb of SeekBar widget.
 	 */
-	@Nullable
-	static ColorStateList createSeekBarThumbTintColors(@NonNull Context context, int tintColor) {
-		final int[] colors = obtainThemeColors(context);
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+	private static ColorStateList createSeekBarThumbTintColors(int tintColor, int[] colors) {
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED,
@@ -396,34 +641,17 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						colors[THEME_COLOR_INDEX_DISABLED]
 				}
-		) : null;
-	}
-
-	/**
-	 * Creates a new instance of ColorStateList as tint list for progress of SeekBar widget.
-	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
-	 * @param tintColor Color to be used as primary tint (accent) color.
-	 * @return New instance of ColorStateList specific for progress of SeekBar widget.
-	 */
-	@Nullable
-	static ColorStateList createSeekBarProgressTintColors(@NonNull Context context, int tintColor) {
-		return tintColor != Color.TRANSPARENT ? ColorStateList.valueOf(tintColor) : null;
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for progress background of SeekBar widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
-	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors Theme colors obtained via {@link #obtainThemeColors(Context)}.
 	 * @return New instance of ColorStateList specific for progress background of SeekBar widget.
 	 */
-	@Nullable
-	static ColorStateList createSeekBarProgressBackgroundTintColors(@NonNull Context context, int tintColor) {
-		final int[] colors = obtainThemeColors(context);
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+	private static ColorStateList createSeekBarProgressBackgroundTintColors(int[] colors) {
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED,
@@ -436,35 +664,19 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						colors[THEME_COLOR_INDEX_DISABLED]
 				}
-		) : null;
-	}
-
-	/**
-	 * Creates a new instance of ColorStateList as tint list for background of Spinner widget.
-	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
-	 * @param tintColor Color to be used as primary tint (accent) color.
-	 * @return New instance of ColorStateList specific for background of Spinner widget.
-	 */
-	@Nullable
-	static ColorStateList createSpinnerTintColors(@NonNull Context context, int tintColor) {
-		return createEditTextTintColors(context, tintColor);
+		);
 	}
 
 	/**
 	 * Creates a new instance of ColorStateList as tint list for number selection indicator of
 	 * NumberPicker widget.
 	 *
-	 * @param context   Context used to resolve theme attributes that can be used to create the
-	 *                  requested tint list.
 	 * @param tintColor Color to be used as primary tint (accent) color.
+	 * @param colors    Theme colors obtained via {@link #obtainThemeColors(Context)}.
 	 * @return New ColorStateList instance.
 	 */
-	@Nullable
-	static ColorStateList createNumberPickerIndicatorTintColors(@NonNull Context context, int tintColor) {
-		final int[] colors = obtainThemeColors(context);
-		return tintColor != Color.TRANSPARENT ? new ColorStateList(
+	private static ColorStateList createNumberPickerIndicatorTintColors(int tintColor, int[] colors) {
+		return new ColorStateList(
 				new int[][]{
 						// Enabled states ----------------------------------------------------------
 						WidgetStateSet.ENABLED_PRESSED,
@@ -479,12 +691,32 @@ public final class TintManager {
 						// Disabled state colors ---------------------------------------------------
 						colors[THEME_COLOR_INDEX_DISABLED]
 				}
-		) : null;
+		);
+	}
+
+	/**
+	 * Invalidates snapshot of tint colors resolved for the specified <var>theme</var>, so the tint
+	 * colors will be resolved again when next requested.
+	 * <p>
+	 * Snapshots are invalidated automatically whenever configuration of the theme's resources
+	 * changes. This method should be called only when attributes of the theme are modified in
+	 * place, for example via {@link Resources.Theme#applyStyle(int, boolean)}.
+	 *
+	 * @param theme The theme of which tint colors snapshot to invalidate.
+	 */
+	public static void invalidateThemeColors(@NonNull Resources.Theme theme) {
+		synchronized (THEME_COLORS) {
+			THEME_COLORS.remove(theme);
+		}
 	}
 
 	/**
 	 * Obtains an array of colors from the current theme containing colors for control's normal,
 	 * disabled and error state.
+	 * <p>
+	 * The colors are resolved only once for each theme and the resolved snapshot is re-used until
+	 * configuration of the theme's resources changes or the snapshot is invalidated via
+	 * {@link #invalidateThemeColors(Resources.Theme)}.
 	 *
 	 * @param context Context used to access current theme and process also its attributes.
 	 * @return Array with following colors:
@@ -493,9 +725,31 @@ public final class TintManager {
 	 * <li>[{@link #THEME_COLOR_INDEX_DISABLED}] = colorControlNormal with alpha value of {@link android.R.attr#disabledAlpha android:disabledAlpha}</li>
 	 * <li>[{@link #THEME_COLOR_INDEX_ERROR}] = {@link R.attr#uiColorErrorHighlight uiColorErrorHighlight}</li>
 	 * </ul>
+	 * <b>Note</b> that the returned array is shared and must not be modified.
 	 */
 	@Size(3)
 	private static int[] obtainThemeColors(Context context) {
+		final Resources.Theme theme = context.getTheme();
+		final Configuration configuration = context.getResources().getConfiguration();
+		synchronized (THEME_COLORS) {
+			ThemeColors themeColors = THEME_COLORS.get(theme);
+			if (themeColors == null || !themeColors.configuration.equals(configuration)) {
+				themeColors = new ThemeColors(resolveThemeColors(context), configuration);
+				THEME_COLORS.put(theme, themeColors);
+			}
+			return themeColors.colors;
+		}
+	}
+
+	/**
+	 * Resolves colors for control's normal, disabled and error state from the current theme.
+	 *
+	 * @param context Context used to access current theme and process also its attributes.
+	 * @return Array with resolved colors.
+	 * @see #obtainThemeColors(Context)
+	 */
+	@Size(3)
+	private static int[] resolveThemeColors(Context context) {
 		final TypedValue typedValue = new TypedValue();
 		final Resources.Theme theme = context.getTheme();
 		final boolean isDarkTheme = !theme.resolveAttribute(R.attr.isLightTheme, typedValue, true) || typedValue.data == 0;
@@ -544,14 +798,44 @@ public final class TintManager {
 	 * @param tintColor A color used as tint for the drawable.
 	 * @param tintMode  The blending mode used to apply tint to the drawable.
 	 * @return Same <b>not muted</b> drawable with applied tint.
+	 * @see TintFilterPool#obtain(int, PorterDuff.Mode)
 	 */
 	@NonNull
 	static Drawable tintRawDrawable(@NonNull Drawable drawable, int tintColor, @NonNull PorterDuff.Mode tintMode) {
-		drawable.setColorFilter(tintColor, tintMode);
+		drawable.setColorFilter(TintFilterPool.obtain(tintColor, tintMode));
 		return drawable;
 	}
 
 	/*
 	 * Inner classes ===============================================================================
 	 */
+
+	/**
+	 * Snapshot of tint colors resolved for a single theme along with configuration for which have
+	 * been such colors resolved.
+	 */
+	private static final class ThemeColors {
+
+		/**
+		 * Colors for control's normal, disabled and error state.
+		 */
+		final int[] colors;
+
+		/**
+		 * Configuration of the theme's resources at the time when the colors have been resolved.
+		 */
+		final Configuration configuration;
+
+		/**
+		 * Creates a new instance of ThemeColors with the specified <var>colors</var>.
+		 *
+		 * @param colors        The resolved colors.
+		 * @param configuration Current configuration of the theme's resources. A copy of this
+		 *                      configuration will be stored.
+		 */
+		ThemeColors(int[] colors, Configuration configuration) {
+			this.colors = colors;
+			this.configuration = new Configuration(configuration);
+		}
+	}
 }
@@ -0,0 +1,223 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.os.AsyncTask;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.StyleRes;
+import android.util.LruCache;
+
+import universum.studios.android.font.Font;
+
+/**
+ * A bounded cache of {@link Typeface Typefaces} resolved for a specific <b>font family</b> and
+ * <b>text style</b> or for a <b>custom font path</b>. Typefaces resolved via this cache are shared
+ * across all {@link TextAppearance} instances, so a typeface for the same family and style or for
+ * the same font path is created only once.
+ * <p>
+ * Fonts referenced by text appearance styles of an application may be also resolved in advance
+ * off the main thread via {@link #prewarm(Context, int...)}, so inflation of the first frame
+ * does not need to pay the font loading costs.
+ *
+ * @author Martin Albedinsky
+ */
+public final class TypefaceCache {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "TypefaceCache";
+
+	/**
+	 * Maximum count of font families of which typefaces may be cached at the same time.
+	 */
+	private static final int MAX_FAMILIES = 16;
+
+	/**
+	 * Count of text styles for which may be cached typeface for a single font family.
+	 */
+	private static final int STYLES_COUNT = 4;
+
+	/**
+	 * Maximum count of typefaces created from custom font paths that may be cached at the same time.
+	 */
+	private static final int MAX_FONTS = 16;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Lru cache holding arrays of typefaces, indexed by text style, mapped to their font families.
+	 */
+	private static final LruCache<String, Typeface[]> TYPEFACES = new LruCache<>(MAX_FAMILIES);
+
+	/**
+	 * Lru cache holding typefaces mapped to paths of custom fonts from which they have been created.
+	 */
+	private static final LruCache<String, Typeface> FONTS = new LruCache<>(MAX_FONTS);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private TypefaceCache() {
+		// Creation of instances of this class is not publicly allowed.
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a typeface for the specified <var>family</var> and <var>style</var>. If there is no
+	 * such typeface cached yet, a new one is created via {@link Typeface#create(String, int)} and
+	 * cached.
+	 *
+	 * @param family Name of the desired font family.
+	 * @param style  The desired text style. One of {@link Typeface#NORMAL}, {@link Typeface#ITALIC},
+	 *               {@link Typeface#BOLD}, {@link Typeface#BOLD_ITALIC}.
+	 * @return Typeface for the requested family and style.
+	 */
+	@NonNull
+	public static Typeface obtain(@NonNull String family, @TextAppearance.TextStyle int style) {
+		final int styleIndex = style < 0 ? Typeface.NORMAL : style % STYLES_COUNT;
+		synchronized (TYPEFACES) {
+			final Typeface[] typefaces = TYPEFACES.get(family);
+			if (typefaces != null && typefaces[styleIndex] != null) {
+				return typefaces[styleIndex];
+			}
+		}
+		// Create the typeface outside of the lock so other threads are not blocked by font loading.
+		final Typeface typeface = Typeface.create(family, styleIndex);
+		synchronized (TYPEFACES) {
+			Typeface[] typefaces = TYPEFACES.get(family);
+			if (typefaces == null) {
+				TYPEFACES.put(family, typefaces = new Typeface[STYLES_COUNT]);
+			}
+			if (typefaces[styleIndex] == null) {
+				typefaces[styleIndex] = typeface;
+			}
+			return typefaces[styleIndex];
+		}
+	}
+
+	/**
+	 * Obtains a typeface for custom font at the specified <var>fontPath</var>. If there is no such
+	 * typeface cached yet, a new one is created via {@link Font#getTypeface(Context)} and cached.
+	 * <p>
+	 * Typefaces of custom fonts do not depend on a theme, so they are shared across all contexts.
+	 *
+	 * @param context  Context used to access assets with the font.
+	 * @param fontPath Path to the desired font file within assets.
+	 * @return Typeface for the requested font.
+	 */
+	@NonNull
+	public static Typeface obtainFont(@NonNull Context context, @NonNull String fontPath) {
+		synchronized (FONTS) {
+			final Typeface typeface = FONTS.get(fontPath);
+			if (typeface != null) {
+				return typeface;
+			}
+		}
+		// Load the font outside of the lock so other threads are not blocked by font loading.
+		final Typeface typeface = Font.create(fontPath).getTypeface(context);
+		synchronized (FONTS) {
+			final Typeface cachedTypeface = FONTS.get(fontPath);
+			if (cachedTypeface != null) {
+				return cachedTypeface;
+			}
+			FONTS.put(fontPath, typeface);
+			return typeface;
+		}
+	}
+
+	/**
+	 * Same as {@link #prewarm(Context, Runnable, int...)} without callback.
+	 */
+	public static void prewarm(@NonNull Context context, @NonNull @StyleRes int... styles) {
+		prewarm(context, null, styles);
+	}
+
+	/**
+	 * Resolves, on a background thread, all fonts referenced by the specified text appearance
+	 * <var>styles</var>, that is typefaces for their font families as well as typefaces for their
+	 * custom font paths. The resolved typefaces are cached process-wide, so they serve text
+	 * appearances parsed within any theme, for example within themes of activities when this
+	 * method is called with the application context. The parsed styles are also cached by
+	 * {@link TextAppearance}, so later calls to {@link TextAppearance#fromStyle(Context, int)} for
+	 * these styles within the same theme do not need to parse them again.
+	 * <p>
+	 * This method is intended to be called at the application start up.
+	 *
+	 * @param context  Context used to parse the text appearance styles.
+	 * @param callback Callback to be invoked (on the background thread) when all fonts has been
+	 *                 resolved. May be {@code null}.
+	 * @param styles   Resource ids of the text appearance styles of which fonts to resolve.
+	 */
+	public static void prewarm(@NonNull final Context context, @Nullable final Runnable callback, @NonNull @StyleRes final int... styles) {
+		AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+
+			/**
+			 */
+			@Override
+			public void run() {
+				for (final int style : styles) {
+					TextAppearance.prewarmStyle(context, style);
+				}
+				if (callback != null) {
+					callback.run();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Clears all typefaces cached by this cache.
+	 */
+	public static void clear() {
+		synchronized (TYPEFACES) {
+			TYPEFACES.evictAll();
+		}
+		synchronized (FONTS) {
+			FONTS.evictAll();
+		}
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
@@ -0,0 +1,89 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.content.res.ColorStateList;
+import android.graphics.Color;
+
+import org.junit.Test;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class TintListCacheTest extends RobolectricTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "TintListCacheTest";
+
+	private static final int KIND = 1;
+	private static final int[] THEME_COLORS = {Color.GRAY, Color.LTGRAY, Color.RED};
+
+	@Test
+	public void testGetNotCached() {
+		final TintListCache cache = new TintListCache(TintListCache.MAX_SIZE);
+		assertThat(cache.get(KIND, Color.BLUE, THEME_COLORS), is(nullValue()));
+		assertThat(cache.missCount(), is(1));
+	}
+
+	@Test
+	public void testPutAndGet() {
+		final TintListCache cache = new TintListCache(TintListCache.MAX_SIZE);
+		final ColorStateList tintList = ColorStateList.valueOf(Color.BLUE);
+		cache.put(KIND, Color.BLUE, THEME_COLORS, tintList);
+		assertThat(cache.get(KIND, Color.BLUE, THEME_COLORS), sameInstance(tintList));
+		// Theme colors are compared by values.
+		assertThat(cache.get(KIND, Color.BLUE, THEME_COLORS.clone()), sameInstance(tintList));
+		assertThat(cache.hitCount(), is(2));
+	}
+
+	@Test
+	public void testGetForDifferentKey() {
+		final TintListCache cache = new TintListCache(TintListCache.MAX_SIZE);
+		cache.put(KIND, Color.BLUE, THEME_COLORS, ColorStateList.valueOf(Color.BLUE));
+		assertThat(cache.get(KIND + 1, Color.BLUE, THEME_COLORS), is(nullValue()));
+		assertThat(cache.get(KIND, Color.GREEN, THEME_COLORS), is(nullValue()));
+		assertThat(cache.get(KIND, Color.BLUE, new int[]{Color.GRAY, Color.LTGRAY, Color.MAGENTA}), is(nullValue()));
+		assertThat(cache.missCount(), is(3));
+	}
+
+	@Test
+	public void testEviction() {
+		final TintListCache cache = new TintListCache(2);
+		cache.put(KIND, Color.BLUE, THEME_COLORS, ColorStateList.valueOf(Color.BLUE));
+		cache.put(KIND, Color.GREEN, THEME_COLORS, ColorStateList.valueOf(Color.GREEN));
+		cache.put(KIND, Color.YELLOW, THEME_COLORS, ColorStateList.valueOf(Color.YELLOW));
+		assertThat(cache.get(KIND, Color.BLUE, THEME_COLORS), is(nullValue()));
+		assertThat(cache.get(KIND, Color.YELLOW, THEME_COLORS).getDefaultColor(), is(Color.YELLOW));
+	}
+
+	@Test
+	public void testClear() {
+		final TintListCache cache = new TintListCache(TintListCache.MAX_SIZE);
+		cache.put(KIND, Color.BLUE, THEME_COLORS, ColorStateList.valueOf(Color.BLUE));
+		cache.clear();
+		assertThat(cache.get(KIND, Color.BLUE, THEME_COLORS), is(nullValue()));
+	}
+}
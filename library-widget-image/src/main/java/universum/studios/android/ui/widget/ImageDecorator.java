@@ -21,13 +21,20 @@ package universum.studios.android.ui.widget;
 import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.PorterDuff;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.view.View;
 import android.widget.ImageView;
 
+import java.util.concurrent.Future;
+
 import universum.studios.android.ui.UiConfig;
 import universum.studios.android.ui.graphics.drawable.TintDrawable;
+import universum.studios.android.ui.util.BitmapDecoder;
 
 /**
  * A {@link WidgetDecorator} implementation that is used to decorate {@link ImageView} like widgets.
@@ -35,7 +42,7 @@ import universum.studios.android.ui.graphics.drawable.TintDrawable;
  * @param <W> A type of the image widget that will use this decorator.
  * @author Martin Albedinsky
  */
-abstract class ImageDecorator<W extends ImageView> extends WidgetDecorator<W> {
+abstract class ImageDecorator<W extends ImageView> extends WidgetDecorator<W> implements ImageLoader.Callback, TiledImageDrawable.Callback {
 
 	/*
 	 * Interface ===================================================================================
@@ -58,6 +65,38 @@ abstract class ImageDecorator<W extends ImageView> extends WidgetDecorator<W> {
 	 * Members =====================================================================================
 	 */
 
+	/**
+	 * Source of the image loaded asynchronously for the attached widget.
+	 */
+	private ImageSource mImageSource;
+
+	/**
+	 * Request loading image of {@link #mImageSource}.
+	 */
+	private ImageLoader.Request mImageRequest;
+
+	/**
+	 * Boolean flag indicating whether image of {@link #mImageSource} should be drawn via
+	 * {@link TiledImageDrawable} or not.
+	 */
+	private boolean mImageSourceTiled;
+
+	/**
+	 * Future creating tiled drawable for {@link #mImageSource}.
+	 */
+	private Future<?> mTiledImageRequest;
+
+	/**
+	 * Tiled drawable created for {@link #mImageSource}.
+	 */
+	private TiledImageDrawable mTiledImage;
+
+	/**
+	 * Boolean flag indicating whether the image loaded for {@link #mImageSource} is being set to
+	 * the attached widget or not.
+	 */
+	private boolean mSettingSourceImage;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -206,6 +245,164 @@ abstract class ImageDecorator<W extends ImageView> extends WidgetDecorator<W> {
 	 */
 	abstract PorterDuff.Mode superGetImageTintMode();
 
+	/**
+	 * Specifies a source of image to be loaded asynchronously via {@link ImageLoader#getDefault()}
+	 * for the attached widget. The image is requested in the size of the widget's content, so
+	 * the loading is postponed until the widget is attached to window and measured.
+	 *
+	 * @param source The desired image source. May be {@code null} to clear the current one.
+	 * @param tiled  {@code True} to draw the image via {@link TiledImageDrawable}, {@code false}
+	 *               to load it via image loader.
+	 */
+	void setImageSource(ImageSource source, boolean tiled) {
+		if (source != null && source.equals(mImageSource) && tiled == mImageSourceTiled) {
+			return;
+		}
+		this.cancelImageRequest();
+		this.setSourceImage(null);
+		this.mImageSource = source;
+		this.mImageSourceTiled = tiled;
+		this.requestSourceImage();
+	}
+
+	/**
+	 * Returns the source of image loaded for the attached widget.
+	 *
+	 * @return Image source or {@code null} if there is no source specified.
+	 */
+	ImageSource getImageSource() {
+		return mImageSource;
+	}
+
+	/**
+	 * Requests image of the current image source (if any) in the current size of the widget's
+	 * content.
+	 */
+	private void requestSourceImage() {
+		if (mImageSource == null || mImageRequest != null || !hasPrivateFlag(PrivateFlags.PFLAG_ATTACHED_TO_WINDOW)) {
+			return;
+		}
+		if (mImageSourceTiled) {
+			if (mTiledImageRequest == null && mTiledImage == null) {
+				this.mTiledImageRequest = TiledImageDrawable.create(mImageSource, this);
+			}
+			return;
+		}
+		final int width = mWidget.getWidth() - mWidget.getPaddingLeft() - mWidget.getPaddingRight();
+		final int height = mWidget.getHeight() - mWidget.getPaddingTop() - mWidget.getPaddingBottom();
+		if (width > 0 && height > 0) {
+			this.mImageRequest = ImageLoader.getDefault().load(
+					mImageSource,
+					width,
+					height,
+					mWidget.getScaleType() == ImageView.ScaleType.CENTER_CROP ?
+							BitmapDecoder.SCALE_CENTER_CROP :
+							BitmapDecoder.SCALE_FIT_INSIDE,
+					this
+			);
+		}
+	}
+
+	/**
+	 */
+	@Override
+	public void onImageLoaded(@NonNull ImageLoader.Request request, @Nullable Bitmap bitmap) {
+		if ((mImageRequest == null || mImageRequest == request) && request.source.equals(mImageSource)) {
+			this.setSourceImage(bitmap != null ? new BitmapDrawable(mWidget.getResources(), bitmap) : null);
+		}
+	}
+
+	/**
+	 */
+	@Override
+	public void onTiledImageCreated(@NonNull ImageSource source, @Nullable TiledImageDrawable drawable) {
+		if (drawable == null) {
+			return;
+		}
+		if (mTiledImageRequest != null && mImageSourceTiled && source.equals(mImageSource)) {
+			this.mTiledImageRequest = null;
+			this.setSourceImage(drawable);
+			this.mTiledImage = drawable;
+		} else {
+			drawable.recycle();
+		}
+	}
+
+	/**
+	 * Sets the given <var>drawable</var> loaded for the current image source to the attached widget.
+	 */
+	private void setSourceImage(Drawable drawable) {
+		this.mSettingSourceImage = true;
+		mWidget.setImageDrawable(drawable);
+		this.mSettingSourceImage = false;
+		this.recycleTiledImage();
+	}
+
+	/**
+	 * Cancels the current image request (if any).
+	 */
+	private void cancelImageRequest() {
+		if (mImageRequest != null) {
+			mImageRequest.cancel();
+			this.mImageRequest = null;
+		}
+		if (mTiledImageRequest != null) {
+			mTiledImageRequest.cancel(false);
+			this.mTiledImageRequest = null;
+		}
+	}
+
+	/**
+	 * Recycles the current tiled drawable (if any) as it is no longer displayed by the attached widget.
+	 */
+	private void recycleTiledImage() {
+		if (mTiledImage != null) {
+			mTiledImage.recycle();
+			this.mTiledImage = null;
+		}
+	}
+
+	/**
+	 * This should be called from the attached widget whenever its image drawable is changed. If
+	 * the drawable has not been loaded for the current image source, the image source is cleared.
+	 */
+	void onImageDrawableChanged() {
+		if (!mSettingSourceImage && mImageSource != null) {
+			this.cancelImageRequest();
+			this.recycleTiledImage();
+			this.mImageSource = null;
+		}
+	}
+
+	/**
+	 */
+	@Override
+	void onAttachedToWindow() {
+		super.onAttachedToWindow();
+		this.requestSourceImage();
+	}
+
+	/**
+	 */
+	@Override
+	protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+		super.onSizeChanged(width, height, oldWidth, oldHeight);
+		if (mImageSource != null && !mImageSourceTiled) {
+			this.cancelImageRequest();
+			this.requestSourceImage();
+		}
+	}
+
+	/**
+	 */
+	@Override
+	void onDetachedFromWindow() {
+		super.onDetachedFromWindow();
+		if ((mImageRequest != null && !mImageRequest.isFinished()) || mTiledImageRequest != null) {
+			this.cancelImageRequest();
+		}
+	}
+
 	/*
 	 * Inner classes ===============================================================================
 	 */
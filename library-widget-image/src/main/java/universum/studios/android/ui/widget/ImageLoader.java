@@ -0,0 +1,415 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import universum.studios.android.ui.util.BitmapDecoder;
+import universum.studios.android.ui.util.BitmapPool;
+
+/**
+ * A loader which decodes images of {@link ImageSource ImageSources} on background threads in the
+ * size in which are the images requested, via {@link BitmapDecoder}, and caches the decoded
+ * bitmaps in a memory cache bounded by a budget in bytes.
+ * <p>
+ * The default loader, used by {@link ImageViewWidget} and {@link ImageButtonWidget}, may be
+ * obtained via {@link #getDefault()}. Each loader provides metrics of its cache, like
+ * {@link #getHitCount()}, {@link #getMissCount()} and {@link #getEvictionCount()}.
+ *
+ * @author Martin Albedinsky
+ */
+public final class ImageLoader {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Callback that may be used to receive result of a request started via
+	 * {@link #load(ImageSource, int, int, int, Callback)}.
+	 *
+	 * @author Martin Albedinsky
+	 */
+	public interface Callback {
+
+		/**
+		 * Invoked on the main thread whenever the requested image has been loaded, unless the
+		 * request has been cancelled.
+		 *
+		 * @param request The request for which has been the image loaded.
+		 * @param bitmap  The loaded bitmap or {@code null} if the image could not be decoded.
+		 */
+		void onImageLoaded(@NonNull Request request, @Nullable Bitmap bitmap);
+	}
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ImageLoader";
+
+	/**
+	 * Default budget in bytes of the memory cache. Equals to 1/8 of the maximum memory available
+	 * for the application.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 8);
+
+	/**
+	 * Budget in bytes of the pool holding intermediate bitmaps re-used for decoding.
+	 */
+	private static final int POOL_SIZE = 4 * 1024 * 1024;
+
+	/**
+	 * Count of threads used to decode images.
+	 */
+	private static final int THREADS_COUNT = 2;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Default loader instance.
+	 */
+	private static ImageLoader sDefault;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Memory cache holding the decoded bitmaps.
+	 */
+	private final LruCache<String, Bitmap> mCache;
+
+	/**
+	 * Pool of bitmaps re-used for decoding.
+	 */
+	private final BitmapPool mPool = new BitmapPool(POOL_SIZE);
+
+	/**
+	 * Executor used to decode images.
+	 */
+	private final ThreadPoolExecutor mExecutor;
+
+	/**
+	 * Handler used to deliver results of requests on the main thread.
+	 */
+	private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ImageLoader with the specified budget of its memory cache.
+	 *
+	 * @param cacheSize Maximum count of bytes of bitmaps held by the memory cache.
+	 */
+	public ImageLoader(int cacheSize) {
+		this.mCache = new LruCache<String, Bitmap>(cacheSize) {
+
+			/**
+			 */
+			@Override
+			protected int sizeOf(String key, Bitmap bitmap) {
+				return BitmapPool.sizeOf(bitmap);
+			}
+		};
+		this.mExecutor = new ThreadPoolExecutor(
+				THREADS_COUNT,
+				THREADS_COUNT,
+				1,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+
+					/**
+					 * Counter used to name the created threads.
+					 */
+					private final AtomicInteger count = new AtomicInteger(1);
+
+					/**
+					 */
+					@Override
+					public Thread newThread(@NonNull Runnable runnable) {
+						return new Thread(runnable, "ImageLoader #" + count.getAndIncrement());
+					}
+				}
+		);
+		mExecutor.allowCoreThreadTimeOut(true);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the default instance of ImageLoader. If there is no default loader specified via
+	 * {@link #setDefault(ImageLoader)}, a new one with {@link #DEFAULT_CACHE_SIZE} is created.
+	 *
+	 * @return Default image loader.
+	 */
+	@NonNull
+	public static synchronized ImageLoader getDefault() {
+		if (sDefault == null) sDefault = new ImageLoader(DEFAULT_CACHE_SIZE);
+		return sDefault;
+	}
+
+	/**
+	 * Specifies the default instance of ImageLoader.
+	 *
+	 * @param loader The desired loader. May be {@code null} to use a loader with default cache size.
+	 * @see #getDefault()
+	 */
+	public static synchronized void setDefault(@Nullable ImageLoader loader) {
+		sDefault = loader;
+	}
+
+	/**
+	 * Creates a key for the memory cache for an image of the given <var>source</var> requested
+	 * in the specified size.
+	 */
+	static String createCacheKey(ImageSource source, int width, int height, int scaleMode) {
+		return source.key + "#" + width + "x" + height + "@" + scaleMode;
+	}
+
+	/**
+	 * Returns bitmap cached for an image of the given <var>source</var> requested in the specified
+	 * size.
+	 *
+	 * @param source    Source of the desired image.
+	 * @param width     The requested width.
+	 * @param height    The requested height.
+	 * @param scaleMode The requested scale mode. See {@link BitmapDecoder#decode(BitmapDecoder.Source, int, int, int, BitmapPool)}.
+	 * @return Cached bitmap or {@code null} if there is no such bitmap cached.
+	 */
+	@Nullable
+	public Bitmap getCached(@NonNull ImageSource source, int width, int height, @BitmapDecoder.ScaleMode int scaleMode) {
+		return mCache.get(createCacheKey(source, width, height, scaleMode));
+	}
+
+	/**
+	 * Starts loading of an image of the given <var>source</var> in the requested size. If the
+	 * image is already cached, the given callback is invoked immediately.
+	 *
+	 * @param source    Source of the desired image.
+	 * @param width     The requested width.
+	 * @param height    The requested height.
+	 * @param scaleMode The requested scale mode. See {@link BitmapDecoder#decode(BitmapDecoder.Source, int, int, int, BitmapPool)}.
+	 * @param callback  Callback to be invoked on the main thread when the image is loaded.
+	 * @return Request that may be used to cancel the loading.
+	 */
+	@NonNull
+	public Request load(@NonNull ImageSource source, int width, int height, @BitmapDecoder.ScaleMode int scaleMode, @NonNull Callback callback) {
+		final Request request = new Request(this, source, width, height, scaleMode, callback);
+		final Bitmap bitmap = mCache.get(request.cacheKey);
+		if (bitmap == null) {
+			mExecutor.execute(request);
+		} else {
+			request.finished = true;
+			callback.onImageLoaded(request, bitmap);
+		}
+		return request;
+	}
+
+	/**
+	 * Returns the count of requests for which has been a bitmap found in the memory cache.
+	 *
+	 * @return Count of cache hits.
+	 */
+	public int getHitCount() {
+		return mCache.hitCount();
+	}
+
+	/**
+	 * Returns the count of requests for which there has not been any bitmap in the memory cache.
+	 *
+	 * @return Count of cache misses.
+	 */
+	public int getMissCount() {
+		return mCache.missCount();
+	}
+
+	/**
+	 * Returns the count of bitmaps evicted from the memory cache.
+	 *
+	 * @return Count of cache evictions.
+	 */
+	public int getEvictionCount() {
+		return mCache.evictionCount();
+	}
+
+	/**
+	 * Returns the count of bytes of bitmaps currently held by the memory cache.
+	 *
+	 * @return Size of the cache in bytes.
+	 */
+	public int getCacheSize() {
+		return mCache.size();
+	}
+
+	/**
+	 * Returns the maximum count of bytes of bitmaps that may be held by the memory cache.
+	 *
+	 * @return Budget of the cache in bytes.
+	 */
+	public int getCacheMaxSize() {
+		return mCache.maxSize();
+	}
+
+	/**
+	 * Evicts all bitmaps from the memory cache and clears the pool of bitmaps re-used for decoding.
+	 */
+	public void clearCache() {
+		mCache.evictAll();
+		mPool.clear();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Request for loading of an image started via {@link ImageLoader#load(ImageSource, int, int, int, Callback)}.
+	 *
+	 * @author Martin Albedinsky
+	 */
+	public static final class Request implements Runnable {
+
+		/**
+		 * Loader which has started this request.
+		 */
+		private final ImageLoader loader;
+
+		/**
+		 * Source of the requested image.
+		 */
+		final ImageSource source;
+
+		/**
+		 * Requested size and scale mode.
+		 */
+		final int width, height, scaleMode;
+
+		/**
+		 * Key of the requested image within the memory cache.
+		 */
+		final String cacheKey;
+
+		/**
+		 * Callback to be invoked when the image is loaded.
+		 */
+		private final Callback callback;
+
+		/**
+		 * Boolean flags indicating whether this request has been cancelled or finished.
+		 */
+		volatile boolean cancelled, finished;
+
+		/**
+		 * Creates a new instance of Request with the specified parameters.
+		 */
+		Request(ImageLoader loader, ImageSource source, int width, int height, int scaleMode, Callback callback) {
+			this.loader = loader;
+			this.source = source;
+			this.width = width;
+			this.height = height;
+			this.scaleMode = scaleMode;
+			this.cacheKey = createCacheKey(source, width, height, scaleMode);
+			this.callback = callback;
+		}
+
+		/**
+		 * Returns the source of the requested image.
+		 *
+		 * @return Image source.
+		 */
+		@NonNull
+		public ImageSource getSource() {
+			return source;
+		}
+
+		/**
+		 */
+		@Override
+		public void run() {
+			if (cancelled) return;
+			Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+			final Bitmap bitmap = BitmapDecoder.decode(source.source, width, height, scaleMode, loader.mPool);
+			if (bitmap != null) {
+				loader.mCache.put(cacheKey, bitmap);
+			}
+			loader.mMainHandler.post(new Runnable() {
+
+				/**
+				 */
+				@Override
+				public void run() {
+					finished = true;
+					if (!cancelled) callback.onImageLoaded(Request.this, bitmap);
+				}
+			});
+		}
+
+		/**
+		 * Cancels this request. Callback of cancelled request is not invoked and if the image has
+		 * not started to be decoded yet, it will not be decoded at all.
+		 */
+		public void cancel() {
+			if (!cancelled) {
+				this.cancelled = true;
+				loader.mExecutor.remove(this);
+			}
+		}
+
+		/**
+		 * Returns a boolean flag indicating whether this request has been cancelled or not.
+		 *
+		 * @return {@code True} if cancelled, {@code false} otherwise.
+		 */
+		public boolean isCancelled() {
+			return cancelled;
+		}
+
+		/**
+		 * Returns a boolean flag indicating whether this request has been finished or not.
+		 *
+		 * @return {@code True} if the requested image has been delivered, {@code false} otherwise.
+		 */
+		public boolean isFinished() {
+			return finished;
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.net.Uri;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.NonNull;
+
+import universum.studios.android.ui.util.BitmapDecoder;
+
+/**
+ * An image source that may be supplied to {@link ImageViewWidget#setImageSource(ImageSource)} or
+ * {@link ImageButtonWidget#setImageSource(ImageSource)} in order to load image for the widget
+ * asynchronously via {@link ImageLoader}.
+ * <p>
+ * Each image source is identified by a <b>key</b> which is used (together with the size in which
+ * is the image requested) to cache the decoded images, so sources of the same image must have
+ * the same key.
+ *
+ * @author Martin Albedinsky
+ */
+public final class ImageSource {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ImageSource";
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Key uniquely identifying image of this source.
+	 */
+	final String key;
+
+	/**
+	 * Source from which is the image decoded.
+	 */
+	final BitmapDecoder.Source source;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ImageSource with the specified <var>key</var> and decoder <var>source</var>.
+	 *
+	 * @param key    Key uniquely identifying the image.
+	 * @param source Source from which to decode the image.
+	 */
+	public ImageSource(@NonNull String key, @NonNull BitmapDecoder.Source source) {
+		this.key = key;
+		this.source = source;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a new image source for an image stored within a file at the specified <var>path</var>.
+	 *
+	 * @param path Path to the desired image file.
+	 * @return Image source that may be loaded.
+	 * @see BitmapDecoder#fromFile(String)
+	 */
+	@NonNull
+	public static ImageSource fromFile(@NonNull String path) {
+		return new ImageSource("file:" + path, BitmapDecoder.fromFile(path));
+	}
+
+	/**
+	 * Creates a new image source for an image with the specified <var>uri</var>.
+	 *
+	 * @param context Context used to access content resolver.
+	 * @param uri     Uri of the desired image.
+	 * @return Image source that may be loaded.
+	 * @see BitmapDecoder#fromUri(android.content.ContentResolver, Uri)
+	 */
+	@NonNull
+	public static ImageSource fromUri(@NonNull Context context, @NonNull Uri uri) {
+		return new ImageSource(uri.toString(), BitmapDecoder.fromUri(context.getApplicationContext().getContentResolver(), uri));
+	}
+
+	/**
+	 * Creates a new image source for an image stored within resource with the specified <var>resId</var>.
+	 *
+	 * @param resources The resources used to open the image.
+	 * @param resId     Resource id of the desired image.
+	 * @return Image source that may be loaded.
+	 * @see BitmapDecoder#fromResource(Resources, int)
+	 */
+	@NonNull
+	public static ImageSource fromResource(@NonNull Resources resources, @DrawableRes int resId) {
+		return new ImageSource("res:" + resId, BitmapDecoder.fromResource(resources, resId));
+	}
+
+	/**
+	 * Returns the key uniquely identifying image of this source.
+	 *
+	 * @return This source's key.
+	 */
+	@NonNull
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 */
+	@Override
+	public boolean equals(Object other) {
+		return other == this || (other instanceof ImageSource && key.equals(((ImageSource) other).key));
+	}
+
+	/**
+	 */
+	@Override
+	public int hashCode() {
+		return key.hashCode();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
@@ -210,6 +210,7 @@ public class ImageViewWidget extends ImageView implements Widget {
 	public void setImageResource(int resId) {
 		super.setImageResource(resId);
 		this.ensureDecorator();
+		mDecorator.onImageDrawableChanged();
 		mDecorator.applyImageTint();
 	}
 
@@ -219,6 +220,7 @@ public class ImageViewWidget extends ImageView implements Widget {
 	public void setImageURI(Uri uri) {
 		super.setImageURI(uri);
 		this.ensureDecorator();
+		mDecorator.onImageDrawableChanged();
 		mDecorator.applyImageTint();
 	}
 
@@ -228,9 +230,59 @@ public class ImageViewWidget extends ImageView implements Widget {
 	public void setImageDrawable(Drawable drawable) {
 		super.setImageDrawable(drawable);
 		this.ensureDecorator();
+		mDecorator.onImageDrawableChanged();
 		mDecorator.applyImageTint();
 	}
 
+	/**
+	 * Specifies a source of image to be loaded asynchronously for this widget via {@link ImageLoader#getDefault()}.
+	 * <p>
+	 * The image is decoded on a background thread directly in the size of this widget's content
+	 * and cached, so the same image requested later is set immediately. Loading of the image is
+	 * cancelled whenever this widget is detached from window or another image source or drawable
+	 * is specified for it, which makes this method suitable also for widgets within recycled
+	 * items of collection widgets. The current image drawable is cleared until the requested image
+	 * is loaded.
+	 *
+	 * @param source The desired image source. May be {@code null} to clear the current one.
+	 * @see #getImageSource()
+	 */
+	public void setImageSource(@Nullable ImageSource source) {
+		this.ensureDecorator();
+		mDecorator.setImageSource(source, false);
+	}
+
+	/**
+	 * Specifies a source of very large image (like a document or a map) to be drawn by this widget
+	 * via {@link TiledImageDrawable}.
+	 * <p>
+	 * Unlike {@link #setImageSource(ImageSource)}, the image is never decoded in its full resolution.
+	 * Only its parts that are currently visible are decoded, in the sample size that matches the
+	 * scale in which is the image drawn, so the used memory stays bounded regardless size of the
+	 * image. The tiled drawable is recycled whenever another image source or drawable is specified
+	 * for this widget.
+	 *
+	 * @param source The desired image source. May be {@code null} to clear the current one.
+	 * @see #getImageSource()
+	 */
+	public void setTiledImageSource(@Nullable ImageSource source) {
+		this.ensureDecorator();
+		mDecorator.setImageSource(source, true);
+	}
+
+	/**
+	 * Returns the source of image loaded for this widget.
+	 *
+	 * @return Image source or {@code null} if there is no source specified or another image
+	 * drawable has been specified after it.
+	 * @see #setImageSource(ImageSource)
+	 */
+	@Nullable
+	public ImageSource getImageSource() {
+		this.ensureDecorator();
+		return mDecorator.getImageSource();
+	}
+
 	/**
 	 */
 	@Override
@@ -321,6 +373,24 @@ public class ImageViewWidget extends ImageView implements Widget {
 		return mDecorator.getBackgroundTintMode();
 	}
 
+	/**
+	 */
+	@Override
+	protected void onAttachedToWindow() {
+		super.onAttachedToWindow();
+		this.ensureDecorator();
+		mDecorator.onAttachedToWindow();
+	}
+
+	/**
+	 */
+	@Override
+	protected void onDetachedFromWindow() {
+		super.onDetachedFromWindow();
+		this.ensureDecorator();
+		mDecorator.onDetachedFromWindow();
+	}
+
 	/**
 	 */
 	@Override
@@ -0,0 +1,534 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Canvas;
+import android.graphics.ColorFilter;
+import android.graphics.Matrix;
+import android.graphics.Paint;
+import android.graphics.PixelFormat;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.LruCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import universum.studios.android.ui.util.BitmapDecoder;
+import universum.studios.android.ui.util.BitmapPool;
+
+/**
+ * A {@link Drawable} implementation which draws very large images by decoding only their parts
+ * (tiles) that are currently visible, via {@link BitmapRegionDecoder}, in the sample size that
+ * matches the scale in which is the drawable currently drawn. Tiles are decoded on a background
+ * thread and cached in a memory cache bounded by a budget in bytes, so the memory used by this
+ * drawable stays bounded regardless of size of the drawn image. Until a tile is decoded, the
+ * corresponding part of a low resolution preview of the whole image is drawn instead.
+ * <p>
+ * New instance of TiledImageDrawable may be created asynchronously via
+ * {@link #create(ImageSource, Callback)} or directly for an already created region decoder via
+ * {@link #TiledImageDrawable(BitmapRegionDecoder, int)}. Image of this drawable may be shown in
+ * {@link ImageViewWidget} via {@link ImageViewWidget#setTiledImageSource(ImageSource)}.
+ *
+ * @author Martin Albedinsky
+ */
+public class TiledImageDrawable extends Drawable {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Callback that may be used to receive an instance of TiledImageDrawable created via
+	 * {@link #create(ImageSource, Callback)}.
+	 *
+	 * @author Martin Albedinsky
+	 */
+	public interface Callback {
+
+		/**
+		 * Invoked on the main thread whenever a new TiledImageDrawable has been created for the
+		 * specified <var>source</var>.
+		 *
+		 * @param source   The source for which has been the drawable created.
+		 * @param drawable The created drawable or {@code null} if the image could not be opened.
+		 */
+		void onTiledImageCreated(@NonNull ImageSource source, @Nullable TiledImageDrawable drawable);
+	}
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "TiledImageDrawable";
+
+	/**
+	 * Size of a single tile in pixels of the sampled image.
+	 */
+	public static final int TILE_SIZE = 256;
+
+	/**
+	 * Default budget in bytes of the tile cache. Equals to 1/8 of the maximum memory available
+	 * for the application.
+	 */
+	public static final int DEFAULT_TILE_CACHE_SIZE = (int) Math.min(Integer.MAX_VALUE, Runtime.getRuntime().maxMemory() / 8);
+
+	/**
+	 * Maximum size of the longer side of the preview bitmap.
+	 */
+	private static final int PREVIEW_MAX_SIZE = 1024;
+
+	/**
+	 * Executor used to decode tiles of all tiled drawables. Region decoders synchronize decoding,
+	 * so there is no reason to use more than a single thread.
+	 */
+	private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+
+		/**
+		 */
+		@Override
+		public Thread newThread(@NonNull Runnable runnable) {
+			return new Thread(runnable, "TiledImageDrawable");
+		}
+	});
+
+	/**
+	 * Handler used to deliver decoded tiles on the main thread.
+	 */
+	private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Decoder used to decode tiles of the image.
+	 */
+	private final BitmapRegionDecoder mDecoder;
+
+	/**
+	 * Dimensions of the whole image.
+	 */
+	private final int mImageWidth, mImageHeight;
+
+	/**
+	 * Low resolution preview of the whole image drawn until tiles are decoded. May be {@code null}.
+	 */
+	private volatile Bitmap mPreview;
+
+	/**
+	 * Cache holding the decoded tiles mapped to keys created via {@link #tileKey(int, int, int)}.
+	 */
+	private final LruCache<Long, Bitmap> mTiles;
+
+	/**
+	 * Tiles that are currently being decoded or are waiting for decoding mapped to their keys.
+	 */
+	private final Map<Long, Future<?>> mPendingTiles = new HashMap<>();
+
+	/**
+	 * Paint used to draw tiles.
+	 */
+	private final Paint mPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+
+	/**
+	 * Matrix and values used to resolve the current scale of canvas.
+	 */
+	private final Matrix mMatrix = new Matrix();
+	private final float[] mMatrixValues = new float[9];
+
+	/**
+	 * Rectangles re-used during drawing.
+	 */
+	private final Rect mClipRect = new Rect(), mTileRect = new Rect();
+	private final RectF mDrawRect = new RectF();
+
+	/**
+	 * Sample size in which have been requested tiles during the last draw.
+	 */
+	private int mSampleSize = 1;
+
+	/**
+	 * Boolean flag indicating whether this drawable has been recycled or not.
+	 */
+	private volatile boolean mRecycled;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Same as {@link #TiledImageDrawable(BitmapRegionDecoder, int)} with {@link #DEFAULT_TILE_CACHE_SIZE}.
+	 */
+	public TiledImageDrawable(@NonNull BitmapRegionDecoder decoder) {
+		this(decoder, DEFAULT_TILE_CACHE_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of TiledImageDrawable for the given region <var>decoder</var>.
+	 * <p>
+	 * <b>Note</b>, that the preview of the image is not decoded by this constructor. Use
+	 * {@link #decodePreview()} to decode it on a background thread if desired.
+	 *
+	 * @param decoder       The decoder used to decode tiles of the image.
+	 * @param tileCacheSize Maximum count of bytes of the cached tiles.
+	 */
+	public TiledImageDrawable(@NonNull BitmapRegionDecoder decoder, int tileCacheSize) {
+		this.mDecoder = decoder;
+		this.mImageWidth = decoder.getWidth();
+		this.mImageHeight = decoder.getHeight();
+		this.mTiles = new LruCache<Long, Bitmap>(tileCacheSize) {
+
+			/**
+			 */
+			@Override
+			protected int sizeOf(Long key, Bitmap bitmap) {
+				return BitmapPool.sizeOf(bitmap);
+			}
+		};
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates asynchronously a new instance of TiledImageDrawable for image of the given <var>source</var>
+	 * including its preview.
+	 *
+	 * @param source   Source of the desired image.
+	 * @param callback Callback to be invoked on the main thread when the drawable is created.
+	 * @return Future that may be used to cancel the creation.
+	 */
+	@NonNull
+	public static Future<?> create(@NonNull final ImageSource source, @NonNull final Callback callback) {
+		return EXECUTOR.submit(new Runnable() {
+
+			/**
+			 */
+			@Override
+			public void run() {
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+				TiledImageDrawable drawable = null;
+				InputStream stream = null;
+				try {
+					stream = source.source.openStream();
+					drawable = new TiledImageDrawable(BitmapRegionDecoder.newInstance(stream, false));
+					drawable.decodePreview();
+				} catch (IOException e) {
+					drawable = null;
+				} finally {
+					if (stream != null) {
+						try {
+							stream.close();
+						} catch (IOException e) {
+							// Ignored.
+						}
+					}
+				}
+				final TiledImageDrawable result = drawable;
+				MAIN_HANDLER.post(new Runnable() {
+
+					/**
+					 */
+					@Override
+					public void run() {
+						callback.onTiledImageCreated(source, result);
+					}
+				});
+			}
+		});
+	}
+
+	/**
+	 * Decodes a low resolution preview of the whole image which is drawn until tiles for the
+	 * current scale are decoded. This method should be called on a background thread.
+	 */
+	public void decodePreview() {
+		if (mRecycled) return;
+		final BitmapFactory.Options options = new BitmapFactory.Options();
+		options.inSampleSize = BitmapDecoder.computeSampleSize(
+				mImageWidth,
+				mImageHeight,
+				PREVIEW_MAX_SIZE,
+				PREVIEW_MAX_SIZE,
+				BitmapDecoder.SCALE_FIT_INSIDE
+		);
+		this.mPreview = mDecoder.decodeRegion(new Rect(0, 0, mImageWidth, mImageHeight), options);
+	}
+
+	/**
+	 * Creates a key for a tile at the specified <var>column</var> and <var>row</var> decoded with
+	 * the specified <var>sampleSize</var>. As the sample size is always a power of 2, only its
+	 * exponent is stored in the key, so large sample sizes do not overflow the key bits.
+	 */
+	private static long tileKey(int sampleSize, int column, int row) {
+		return ((long) Integer.numberOfTrailingZeros(sampleSize) << 56) | ((long) column << 28) | row;
+	}
+
+	/**
+	 */
+	@Override
+	public int getIntrinsicWidth() {
+		return mImageWidth;
+	}
+
+	/**
+	 */
+	@Override
+	public int getIntrinsicHeight() {
+		return mImageHeight;
+	}
+
+	/**
+	 */
+	@Override
+	public void draw(@NonNull Canvas canvas) {
+		final Rect bounds = getBounds();
+		if (mRecycled || bounds.isEmpty()) {
+			return;
+		}
+		final float boundsScaleX = bounds.width() / (float) mImageWidth;
+		final float boundsScaleY = bounds.height() / (float) mImageHeight;
+		if (mPreview != null) {
+			canvas.drawBitmap(mPreview, null, bounds, mPaint);
+		}
+		// Resolve the sample size matching the scale in which is the image drawn on the screen.
+		//noinspection deprecation
+		canvas.getMatrix(mMatrix);
+		mMatrix.getValues(mMatrixValues);
+		final float screenScale = Math.max(
+				Math.abs(mMatrixValues[Matrix.MSCALE_X]) * boundsScaleX,
+				Math.abs(mMatrixValues[Matrix.MSCALE_Y]) * boundsScaleY
+		);
+		int sampleSize = 1;
+		while (sampleSize * 2 * screenScale <= 1) {
+			sampleSize *= 2;
+		}
+		if (mSampleSize != sampleSize) {
+			this.mSampleSize = sampleSize;
+			this.cancelPendingTiles();
+		}
+		// Resolve the visible part of the image.
+		if (!canvas.getClipBounds(mClipRect) || !mClipRect.intersect(bounds)) {
+			return;
+		}
+		final int tileSize = TILE_SIZE * sampleSize;
+		final int left = (int) ((mClipRect.left - bounds.left) / boundsScaleX);
+		final int top = (int) ((mClipRect.top - bounds.top) / boundsScaleY);
+		final int right = Math.min(mImageWidth, (int) Math.ceil((mClipRect.right - bounds.left) / boundsScaleX));
+		final int bottom = Math.min(mImageHeight, (int) Math.ceil((mClipRect.bottom - bounds.top) / boundsScaleY));
+		final int firstColumn = left / tileSize, lastColumn = (right - 1) / tileSize;
+		final int firstRow = top / tileSize, lastRow = (bottom - 1) / tileSize;
+		for (int row = firstRow; row <= lastRow; row++) {
+			for (int column = firstColumn; column <= lastColumn; column++) {
+				final long key = tileKey(sampleSize, column, row);
+				final Bitmap tile = mTiles.get(key);
+				if (tile == null) {
+					this.requestTile(key, sampleSize, column, row);
+					continue;
+				}
+				final int tileLeft = column * tileSize;
+				final int tileTop = row * tileSize;
+				mDrawRect.set(
+						bounds.left + tileLeft * boundsScaleX,
+						bounds.top + tileTop * boundsScaleY,
+						bounds.left + Math.min(mImageWidth, tileLeft + tileSize) * boundsScaleX,
+						bounds.top + Math.min(mImageHeight, tileTop + tileSize) * boundsScaleY
+				);
+				canvas.drawBitmap(tile, null, mDrawRect, mPaint);
+			}
+		}
+	}
+
+	/**
+	 * Requests decoding of a tile at the specified position if it is not being decoded already.
+	 */
+	private void requestTile(final long key, final int sampleSize, int column, int row) {
+		if (mPendingTiles.containsKey(key)) {
+			return;
+		}
+		final int tileSize = TILE_SIZE * sampleSize;
+		final Rect region = new Rect(
+				column * tileSize,
+				row * tileSize,
+				Math.min(mImageWidth, (column + 1) * tileSize),
+				Math.min(mImageHeight, (row + 1) * tileSize)
+		);
+		mPendingTiles.put(key, EXECUTOR.submit(new Runnable() {
+
+			/**
+			 */
+			@Override
+			public void run() {
+				if (mRecycled) return;
+				Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+				final BitmapFactory.Options options = new BitmapFactory.Options();
+				options.inSampleSize = sampleSize;
+				final Bitmap tile = mDecoder.decodeRegion(region, options);
+				MAIN_HANDLER.post(new Runnable() {
+
+					/**
+					 */
+					@Override
+					public void run() {
+						mPendingTiles.remove(key);
+						if (tile != null && !mRecycled) {
+							mTiles.put(key, tile);
+							invalidateSelf();
+						}
+					}
+				});
+			}
+		}));
+	}
+
+	/**
+	 * Cancels decoding of all tiles that have not been decoded yet.
+	 */
+	private void cancelPendingTiles() {
+		for (final Future<?> tile : mPendingTiles.values()) {
+			tile.cancel(false);
+		}
+		mPendingTiles.clear();
+	}
+
+	/**
+	 * Returns the count of bytes of tiles currently held by the tile cache.
+	 *
+	 * @return Size of the tile cache in bytes.
+	 */
+	public int getTileCacheSize() {
+		return mTiles.size();
+	}
+
+	/**
+	 * Returns the count of tiles evicted from the tile cache.
+	 *
+	 * @return Count of evictions.
+	 */
+	public int getTileEvictionCount() {
+		return mTiles.evictionCount();
+	}
+
+	/**
+	 * Evicts all decoded tiles. Tiles will be decoded again when they are drawn.
+	 */
+	public void trimTiles() {
+		this.cancelPendingTiles();
+		mTiles.evictAll();
+	}
+
+	/**
+	 * Recycles this drawable. All decoded tiles are evicted and the region decoder is recycled,
+	 * so this drawable cannot be drawn anymore.
+	 */
+	public void recycle() {
+		if (mRecycled) return;
+		this.mRecycled = true;
+		this.trimTiles();
+		this.mPreview = null;
+		// Recycle the decoder on the decoding thread, so it is not recycled while decoding.
+		EXECUTOR.execute(new Runnable() {
+
+			/**
+			 */
+			@Override
+			public void run() {
+				mDecoder.recycle();
+			}
+		});
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether this drawable has been recycled or not.
+	 *
+	 * @return {@code True} if recycled, {@code false} otherwise.
+	 */
+	public boolean isRecycled() {
+		return mRecycled;
+	}
+
+	/**
+	 */
+	@Override
+	public boolean setVisible(boolean visible, boolean restart) {
+		final boolean changed = super.setVisible(visible, restart);
+		if (!visible) this.cancelPendingTiles();
+		return changed;
+	}
+
+	/**
+	 */
+	@Override
+	public void setAlpha(int alpha) {
+		if (mPaint.getAlpha() != alpha) {
+			mPaint.setAlpha(alpha);
+			invalidateSelf();
+		}
+	}
+
+	/**
+	 */
+	@Override
+	public int getAlpha() {
+		return mPaint.getAlpha();
+	}
+
+	/**
+	 */
+	@Override
+	public void setColorFilter(@Nullable ColorFilter colorFilter) {
+		mPaint.setColorFilter(colorFilter);
+		invalidateSelf();
+	}
+
+	/**
+	 */
+	@Override
+	public int getOpacity() {
+		return PixelFormat.TRANSLUCENT;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
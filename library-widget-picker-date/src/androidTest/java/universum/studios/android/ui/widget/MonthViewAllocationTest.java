@@ -0,0 +1,91 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.view.View;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+import universum.studios.android.test.instrumented.InstrumentedTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * @author Martin Albedinsky
+ */
+@SuppressWarnings("deprecation")
+public final class MonthViewAllocationTest extends InstrumentedTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "MonthViewAllocationTest";
+
+	private static final int VIEW_SIZE = 600;
+	private static final int DRAWS_COUNT = 10;
+
+	@Test
+	public void testDrawWithoutAllocations() {
+		assertThat(countDrawAllocations(false), is(0));
+	}
+
+	@Test
+	public void testDrawWithStaticLayerWithoutAllocations() {
+		assertThat(countDrawAllocations(true), is(0));
+	}
+
+	private int countDrawAllocations(final boolean staticLayerEnabled) {
+		final int[] allocations = new int[1];
+		InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+			@Override
+			public void run() {
+				final MonthView view = new MonthView(mContext);
+				view.setStaticLayerEnabled(staticLayerEnabled);
+				view.setLocale(Locale.US);
+				final Calendar calendar = Calendar.getInstance(Locale.US);
+				calendar.set(Calendar.DAY_OF_MONTH, 1);
+				view.setDate(calendar.getTimeInMillis());
+				view.setSelection(calendar.getActualMaximum(Calendar.DAY_OF_MONTH));
+				view.measure(
+						View.MeasureSpec.makeMeasureSpec(VIEW_SIZE, View.MeasureSpec.EXACTLY),
+						View.MeasureSpec.makeMeasureSpec(VIEW_SIZE, View.MeasureSpec.EXACTLY)
+				);
+				view.layout(0, 0, VIEW_SIZE, VIEW_SIZE);
+				final Canvas canvas = new Canvas(Bitmap.createBitmap(VIEW_SIZE, VIEW_SIZE, Bitmap.Config.ARGB_8888));
+				// Warm up draw, that is allowed to allocate for example the static layer and text bounds.
+				view.draw(canvas);
+				Debug.resetThreadAllocCount();
+				Debug.startAllocCounting();
+				for (int i = 0; i < DRAWS_COUNT; i++) {
+					view.draw(canvas);
+				}
+				Debug.stopAllocCounting();
+				allocations[0] = Debug.getThreadAllocCount();
+			}
+		});
+		return allocations[0];
+	}
+}
@@ -0,0 +1,332 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.support.annotation.IntRange;
+import android.support.annotation.NonNull;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Utility class providing pure arithmetic computations of month related data, like conversion
+ * between <b>epoch month</b> index and <b>year + month</b> pair, count of days in a month or day of
+ * week at which a month starts, so these data may be computed without any {@link Calendar} instance.
+ * <p>
+ * Epoch month index is a count of months elapsed since {@code January 1970} (may be negative) and
+ * epoch day is a count of days elapsed since {@code 1st January 1970}. All computations are performed
+ * in the proleptic Gregorian calendar, so for dates before the Gregorian cutover (October 1582) the
+ * results may differ from the ones computed via {@link java.util.GregorianCalendar}.
+ *
+ * @author Martin Albedinsky
+ */
+final class CalendarMonths {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "CalendarMonths";
+
+	/**
+	 * Year at which starts the epoch.
+	 */
+	private static final int EPOCH_YEAR = 1970;
+
+	/**
+	 * Count of months in a year.
+	 */
+	private static final int MONTHS_IN_YEAR = 12;
+
+	/**
+	 * Count of days in a week.
+	 */
+	private static final int DAYS_IN_WEEK = 7;
+
+	/**
+	 * Duration of one day in milliseconds.
+	 */
+	private static final long DAY_IN_MILLIS = 24 * 60 * 60 * 1000L;
+
+	/**
+	 * Count of days within a 400 years era of the Gregorian calendar.
+	 */
+	private static final int DAYS_IN_ERA = 146097;
+
+	/**
+	 * Count of days from {@code 1st March 0000} to {@code 1st January 1970}.
+	 */
+	private static final int DAYS_TO_EPOCH = 719468;
+
+	/**
+	 * Day of week of the epoch day {@code 0} (Thursday) as offset from {@link Calendar#SUNDAY}.
+	 */
+	private static final int EPOCH_DAY_OF_WEEK_OFFSET = Calendar.THURSDAY - Calendar.SUNDAY;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private CalendarMonths() {
+		// Creation of instances of this class is not publicly allowed.
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Checks whether the specified <var>calendar</var> is a plain {@link GregorianCalendar}, so its
+	 * years and months match the ones computed by this class. Subclasses, like the Buddhist
+	 * calendar, may count years in a different era.
+	 *
+	 * @param calendar The calendar to check.
+	 * @return {@code True} if month data of the calendar may be computed via this class,
+	 * {@code false} otherwise.
+	 */
+	static boolean isGregorian(@NonNull Calendar calendar) {
+		return calendar.getClass() == GregorianCalendar.class;
+	}
+
+	/**
+	 * Returns an epoch month index for the specified <var>year</var> and <var>month</var>.
+	 *
+	 * @param year  The desired year.
+	 * @param month The desired month as {@link Calendar#MONTH}.
+	 * @return Count of months elapsed since {@code January 1970}.
+	 */
+	static int getMonthIndex(int year, @IntRange(from = Calendar.JANUARY, to = Calendar.DECEMBER) int month) {
+		return (year - EPOCH_YEAR) * MONTHS_IN_YEAR + month;
+	}
+
+	/**
+	 * Returns the year of the specified epoch <var>monthIndex</var>.
+	 *
+	 * @param monthIndex The desired epoch month index.
+	 * @return Year of the month.
+	 */
+	static int getYear(int monthIndex) {
+		return EPOCH_YEAR + floorDiv(monthIndex, MONTHS_IN_YEAR);
+	}
+
+	/**
+	 * Returns the month of the specified epoch <var>monthIndex</var>.
+	 *
+	 * @param monthIndex The desired epoch month index.
+	 * @return Month as {@link Calendar#MONTH}.
+	 */
+	static int getMonth(int monthIndex) {
+		return monthIndex - floorDiv(monthIndex, MONTHS_IN_YEAR) * MONTHS_IN_YEAR;
+	}
+
+	/**
+	 * Returns the count of days in the specified <var>month</var> of the specified <var>year</var>.
+	 *
+	 * @param year  The desired year.
+	 * @param month The desired month as {@link Calendar#MONTH}.
+	 * @return Count of days in the month.
+	 */
+	static int getDaysInMonth(int year, @IntRange(from = Calendar.JANUARY, to = Calendar.DECEMBER) int month) {
+		switch (month) {
+			case Calendar.FEBRUARY:
+				return isLeapYear(year) ? 29 : 28;
+			case Calendar.APRIL:
+			case Calendar.JUNE:
+			case Calendar.SEPTEMBER:
+			case Calendar.NOVEMBER:
+				return 30;
+			default:
+				return 31;
+		}
+	}
+
+	/**
+	 * Checks whether the specified <var>year</var> is a leap year.
+	 *
+	 * @param year The desired year.
+	 * @return {@code True} if the year is a leap year, {@code false} otherwise.
+	 */
+	static boolean isLeapYear(int year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * Returns the day of week at which starts the specified <var>month</var> of the specified <var>year</var>.
+	 *
+	 * @param year  The desired year.
+	 * @param month The desired month as {@link Calendar#MONTH}.
+	 * @return Day of week of the first day in the month as {@link Calendar#DAY_OF_WEEK}.
+	 */
+	static int getStartDayOfWeek(int year, @IntRange(from = Calendar.JANUARY, to = Calendar.DECEMBER) int month) {
+		return getDayOfWeek(getEpochDay(year, month, 1));
+	}
+
+	/**
+	 * Returns the day of week of the specified <var>epochDay</var>.
+	 *
+	 * @param epochDay The desired epoch day.
+	 * @return Day of week as {@link Calendar#DAY_OF_WEEK}.
+	 */
+	static int getDayOfWeek(long epochDay) {
+		return Calendar.SUNDAY + (int) floorMod(epochDay + EPOCH_DAY_OF_WEEK_OFFSET, DAYS_IN_WEEK);
+	}
+
+	/**
+	 * Returns an epoch day for the specified date.
+	 *
+	 * @param year       The desired year.
+	 * @param month      The desired month as {@link Calendar#MONTH}.
+	 * @param dayOfMonth The desired day of month starting from {@code 1}.
+	 * @return Count of days elapsed since {@code 1st January 1970}.
+	 */
+	static long getEpochDay(int year, @IntRange(from = Calendar.JANUARY, to = Calendar.DECEMBER) int month, int dayOfMonth) {
+		// Years are shifted so each of them starts at 1st March and the leap day is the last one.
+		final long shiftedYear = month <= Calendar.FEBRUARY ? year - 1 : year;
+		final long era = floorDiv(shiftedYear, 400);
+		final long yearOfEra = shiftedYear - era * 400;
+		final int shiftedMonth = month <= Calendar.FEBRUARY ? month + 10 : month - 2;
+		final long dayOfYear = (153 * shiftedMonth + 2) / 5 + dayOfMonth - 1;
+		final long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * DAYS_IN_ERA + dayOfEra - DAYS_TO_EPOCH;
+	}
+
+	/**
+	 * Returns an epoch day of the specified <var>timeInMillis</var> in the specified <var>timeZone</var>.
+	 *
+	 * @param timeInMillis The desired time in milliseconds.
+	 * @param timeZone     Time zone in which to resolve the day.
+	 * @return Count of days elapsed since {@code 1st January 1970} in the time zone.
+	 */
+	static long getEpochDay(long timeInMillis, @NonNull TimeZone timeZone) {
+		return floorDiv(timeInMillis + timeZone.getOffset(timeInMillis), DAY_IN_MILLIS);
+	}
+
+	/**
+	 * Returns an epoch month index of the specified <var>epochDay</var>.
+	 *
+	 * @param epochDay The desired epoch day.
+	 * @return Count of months elapsed since {@code January 1970}.
+	 */
+	static int getEpochDayMonthIndex(long epochDay) {
+		final long date = toDate(epochDay);
+		return getMonthIndex((int) (date >> 9), (int) ((date >> 5) & 15));
+	}
+
+	/**
+	 * Returns the day of month of the specified <var>epochDay</var>.
+	 *
+	 * @param epochDay The desired epoch day.
+	 * @return Day of month starting from {@code 1}.
+	 */
+	static int getEpochDayDayOfMonth(long epochDay) {
+		return (int) (toDate(epochDay) & 31);
+	}
+
+	/**
+	 * Returns a time in milliseconds at which starts the first day of the specified epoch
+	 * <var>monthIndex</var> in the specified <var>timeZone</var>.
+	 *
+	 * @param monthIndex The desired epoch month index.
+	 * @param timeZone   Time zone in which to resolve the start of the month.
+	 * @return Time in milliseconds.
+	 */
+	static long getMonthStartMillis(int monthIndex, @NonNull TimeZone timeZone) {
+		final long localTime = getEpochDay(getYear(monthIndex), getMonth(monthIndex), 1) * DAY_IN_MILLIS;
+		// Offset resolved for the current raw offset is only an estimate, as the raw offset of
+		// the time zone may have been different at the requested time.
+		final int estimatedOffset = timeZone.getOffset(localTime - timeZone.getRawOffset());
+		final int offset = timeZone.getOffset(localTime - estimatedOffset);
+		if (offset == estimatedOffset) {
+			return localTime - offset;
+		}
+		final int correctedOffset = timeZone.getOffset(localTime - offset);
+		if (correctedOffset == offset) {
+			return localTime - offset;
+		}
+		// Start of the month falls into a gap caused by a time zone transition, so resolve it
+		// with the offset used before the transition, same as Calendar does.
+		return localTime - Math.min(offset, correctedOffset);
+	}
+
+	/**
+	 * Converts the specified <var>epochDay</var> into a date packed into a single long value as
+	 * {@code year << 9 | month << 5 | dayOfMonth}, where month is {@link Calendar#MONTH}.
+	 *
+	 * @param epochDay The desired epoch day to convert.
+	 * @return Packed date.
+	 */
+	private static long toDate(long epochDay) {
+		final long shiftedDay = epochDay + DAYS_TO_EPOCH;
+		final long era = floorDiv(shiftedDay, DAYS_IN_ERA);
+		final long dayOfEra = shiftedDay - era * DAYS_IN_ERA;
+		final long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / (DAYS_IN_ERA - 1)) / 365;
+		final long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		// Shifted month where 0 is March and 11 is February.
+		final long shiftedMonth = (5 * dayOfYear + 2) / 153;
+		final long dayOfMonth = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		final long month = shiftedMonth < 10 ? shiftedMonth + 2 : shiftedMonth - 10;
+		final long year = yearOfEra + era * 400 + (month <= Calendar.FEBRUARY ? 1 : 0);
+		return (year << 9) | (month << 5) | dayOfMonth;
+	}
+
+	/**
+	 * Returns the largest value that is less than or equal to the algebraic quotient of the
+	 * specified <var>dividend</var> and <var>divisor</var>.
+	 */
+	private static long floorDiv(long dividend, long divisor) {
+		final long quotient = dividend / divisor;
+		return (dividend % divisor != 0 && (dividend < 0) != (divisor < 0)) ? quotient - 1 : quotient;
+	}
+
+	/**
+	 * Same as {@link #floorDiv(long, long)} for integer values.
+	 */
+	private static int floorDiv(int dividend, int divisor) {
+		return (int) floorDiv((long) dividend, (long) divisor);
+	}
+
+	/**
+	 * Returns the floor modulus of the specified <var>dividend</var> and <var>divisor</var>.
+	 */
+	private static long floorMod(long dividend, long divisor) {
+		return dividend - floorDiv(dividend, divisor) * divisor;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
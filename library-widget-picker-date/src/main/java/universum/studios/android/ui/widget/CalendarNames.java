@@ -0,0 +1,202 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import android.support.annotation.NonNull;
+import android.util.LruCache;
+
+import java.util.Calendar;
+import java.util.Locale;
+
+/**
+ * An immutable table of calendar names resolved for a specific {@link Locale}. The table contains
+ * long names of all months, short letters of all days in week and the first day of week for its
+ * locale. Tables obtained via {@link #obtain(Locale)} are shared across all {@link MonthView}
+ * instances, so the names are resolved via {@link Calendar} only once per locale.
+ *
+ * @author Martin Albedinsky
+ */
+final class CalendarNames {
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "CalendarNames";
+
+	/**
+	 * Maximum count of locales for which may be the names tables cached at the same time.
+	 */
+	private static final int MAX_LOCALES = 8;
+
+	/**
+	 * Count of months in a year.
+	 */
+	private static final int MONTHS_IN_YEAR = 12;
+
+	/**
+	 * Count of days in a week.
+	 */
+	private static final int DAYS_IN_WEEK = 7;
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Lru cache holding names tables mapped to their locales.
+	 */
+	private static final LruCache<Locale, CalendarNames> TABLES = new LruCache<>(MAX_LOCALES);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Long names of months with capitalized first letter indexed by {@link Calendar#MONTH}.
+	 */
+	private final String[] mMonthNames = new String[MONTHS_IN_YEAR];
+
+	/**
+	 * Upper cased first letters of short names of days indexed by {@link Calendar#DAY_OF_WEEK} {@code - 1}.
+	 */
+	private final String[] mDayLetters = new String[DAYS_IN_WEEK];
+
+	/**
+	 * First day of week for the locale of this table.
+	 */
+	private final int mFirstDayOfWeek;
+
+	/**
+	 * Boolean flag indicating whether the locale of this table uses the Gregorian calendar.
+	 */
+	private final boolean mGregorian;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of CalendarNames with names resolved for the specified <var>locale</var>.
+	 *
+	 * @param locale The locale for which to resolve the names.
+	 */
+	private CalendarNames(Locale locale) {
+		final Calendar calendar = Calendar.getInstance(locale);
+		this.mFirstDayOfWeek = calendar.getFirstDayOfWeek();
+		this.mGregorian = CalendarMonths.isGregorian(calendar);
+		calendar.clear();
+		calendar.set(Calendar.DAY_OF_MONTH, 1);
+		for (int i = 0; i < MONTHS_IN_YEAR; i++) {
+			calendar.set(Calendar.MONTH, i);
+			final String name = MonthView.resolveCalendarFieldName(calendar, Calendar.MONTH, MonthView.CALENDAR_STYLE_LONG, locale);
+			mMonthNames[i] = name.isEmpty() ? name : name.substring(0, 1).toUpperCase(locale) + name.substring(1);
+		}
+		calendar.clear();
+		for (int i = 0; i < DAYS_IN_WEEK; i++) {
+			calendar.set(Calendar.DAY_OF_WEEK, i + 1);
+			final String name = MonthView.resolveCalendarFieldName(calendar, Calendar.DAY_OF_WEEK, MonthView.CALENDAR_STYLE_SHORT, locale);
+			mDayLetters[i] = name.isEmpty() ? name : name.substring(0, 1).toUpperCase(locale);
+		}
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a names table for the specified <var>locale</var>. If there is no such table cached
+	 * yet, a new one is created and cached.
+	 *
+	 * @param locale The locale for which to obtain the names table.
+	 * @return Names table for the requested locale.
+	 */
+	@NonNull
+	static CalendarNames obtain(@NonNull Locale locale) {
+		synchronized (TABLES) {
+			final CalendarNames names = TABLES.get(locale);
+			if (names != null) {
+				return names;
+			}
+		}
+		// Resolve the names outside of the lock so other threads are not blocked by the resolution.
+		final CalendarNames names = new CalendarNames(locale);
+		synchronized (TABLES) {
+			final CalendarNames cachedNames = TABLES.get(locale);
+			if (cachedNames != null) {
+				return cachedNames;
+			}
+			TABLES.put(locale, names);
+			return names;
+		}
+	}
+
+	/**
+	 * Returns the long name of the specified <var>month</var> with capitalized first letter.
+	 *
+	 * @param month The desired month as {@link Calendar#MONTH}.
+	 * @return Name of the requested month.
+	 */
+	@NonNull
+	String getMonthName(int month) {
+		return mMonthNames[month];
+	}
+
+	/**
+	 * Returns the upper cased first letter of short name of the specified <var>dayOfWeek</var>.
+	 *
+	 * @param dayOfWeek The desired day as {@link Calendar#DAY_OF_WEEK}.
+	 * @return Letter of the requested day.
+	 */
+	@NonNull
+	String getDayLetter(int dayOfWeek) {
+		return mDayLetters[dayOfWeek - 1];
+	}
+
+	/**
+	 * Returns the first day of week for the locale of this table.
+	 *
+	 * @return First day of week as {@link Calendar#DAY_OF_WEEK}.
+	 */
+	int getFirstDayOfWeek() {
+		return mFirstDayOfWeek;
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether the locale of this table uses the Gregorian calendar.
+	 *
+	 * @return {@code True} if {@link Calendar#getInstance(Locale)} for the locale of this table
+	 * is a plain {@link java.util.GregorianCalendar}, {@code false} otherwise.
+	 * @see CalendarMonths#isGregorian(Calendar)
+	 */
+	boolean isGregorian() {
+		return mGregorian;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
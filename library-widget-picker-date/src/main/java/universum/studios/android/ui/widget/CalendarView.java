@@ -332,6 +332,12 @@ public class CalendarView extends RecyclerView implements Widget {
 	 */
 	private static final int NO_VALUE = -1;
 
+	/**
+	 * Default count of months ahead of the scroll direction that are prefetched while this view
+	 * is being scrolled.
+	 */
+	private static final int DEFAULT_MONTHS_LOOK_AHEAD = 1;
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -375,6 +381,12 @@ public class CalendarView extends RecyclerView implements Widget {
 	 */
 	private float mFlingMaxVelocity = Float.MAX_VALUE;
 
+	/**
+	 * Count of months ahead of the scroll direction that are prefetched while this view is being
+	 * scrolled.
+	 */
+	private int mMonthsLookAhead = DEFAULT_MONTHS_LOOK_AHEAD;
+
 	/**
 	 * Linear layout manager set to this calendar view (if any).
 	 */
@@ -564,6 +576,37 @@ public class CalendarView extends RecyclerView implements Widget {
 		return mOrientation;
 	}
 
+	/**
+	 * Sets a count of months ahead of the current scroll direction that should be bound in advance
+	 * while this calendar view is being scrolled. These months are bound in idle time between frames
+	 * via {@link RecyclerView RecyclerView's} item prefetch, so they are ready to be presented
+	 * when they are scrolled into view. The month adjacent to the other side of the visible months
+	 * is prefetched as well, so both the next and previous months are kept bound.
+	 * <p>
+	 * Default value: <b>1</b>
+	 *
+	 * @param months The desired count of months. May be {@code 0} to disable prefetching of months.
+	 * @see #getMonthsLookAhead()
+	 */
+	public void setMonthsLookAhead(@IntRange(from = 0) int months) {
+		this.mMonthsLookAhead = Math.max(0, months);
+		if (mLinearLayoutManager instanceof LayoutManagerImpl) {
+			((LayoutManagerImpl) mLinearLayoutManager).setMonthsLookAhead(mMonthsLookAhead);
+		}
+	}
+
+	/**
+	 * Returns the count of months ahead of the scroll direction that are prefetched while this
+	 * calendar view is being scrolled.
+	 *
+	 * @return Count of months to prefetch.
+	 * @see #setMonthsLookAhead(int)
+	 */
+	@IntRange(from = 0)
+	public int getMonthsLookAhead() {
+		return mMonthsLookAhead;
+	}
+
 	/**
 	 */
 	@Override
@@ -572,6 +615,9 @@ public class CalendarView extends RecyclerView implements Widget {
 		if (layout instanceof LinearLayoutManager) {
 			this.mLinearLayoutManager = (LinearLayoutManager) layout;
 			this.mOrientation = mLinearLayoutManager.getOrientation();
+			if (layout instanceof LayoutManagerImpl) {
+				((LayoutManagerImpl) layout).setMonthsLookAhead(mMonthsLookAhead);
+			}
 		} else {
 			this.mLinearLayoutManager = null;
 			this.mOrientation = NO_VALUE;
@@ -1283,9 +1329,7 @@ public class CalendarView extends RecyclerView implements Widget {
 			this.selectedDay = NO_VALUE;
 			this.selectedDayMonthPosition = NO_POSITION;
 			if (dateInMillis != null) {
-				dataSet.calendar.clear();
-				dataSet.calendar.setTimeInMillis(dateInMillis);
-				this.selectedDay = dataSet.calendar.get(Calendar.DAY_OF_MONTH);
+				this.selectedDay = CalendarMonths.getEpochDayDayOfMonth(CalendarMonths.getEpochDay(dateInMillis, dataSet.calendar.getTimeZone()));
 				this.selectedDayMonthPosition = dataSet.calculateMonthPosition(dateInMillis);
 			}
 			if (recyclerView == null || !recyclerView.isComputingLayout()) {
@@ -1726,16 +1770,21 @@ public class CalendarView extends RecyclerView implements Widget {
 
 		/**
 		 * Same as {@link #calculateMonthPosition(int, int)} for the specified <var>dateInMillis</var>
-		 * from which will be extracted {@link Calendar#YEAR} and {@link Calendar#MONTH} values using
-		 * {@link Calendar}.
+		 * from which will be extracted {@link Calendar#YEAR} and {@link Calendar#MONTH} values in
+		 * the time zone of the current calendar. Values are computed arithmetically if the current
+		 * calendar is a {@link java.util.GregorianCalendar}, otherwise via the calendar.
 		 *
 		 * @param dateInMillis The desired date in milliseconds. Should contain year and month data.
 		 * @return Computed month position.
 		 */
 		public int calculateMonthPosition(long dateInMillis) {
-			calendar.clear();
-			calendar.setTimeInMillis(dateInMillis);
-			return calculateMonthPosition(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH));
+			if (!CalendarMonths.isGregorian(calendar)) {
+				calendar.clear();
+				calendar.setTimeInMillis(dateInMillis);
+				return calculateMonthPosition(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH));
+			}
+			final long epochDay = CalendarMonths.getEpochDay(dateInMillis, calendar.getTimeZone());
+			return CalendarMonths.getEpochDayMonthIndex(epochDay) - CalendarMonths.getMonthIndex(startingYear, startingMonth);
 		}
 
 		/**
@@ -1758,11 +1807,15 @@ public class CalendarView extends RecyclerView implements Widget {
 		 * @return Calculated date with {@link Calendar#YEAR} and {@link Calendar#MONTH} data in milliseconds.
 		 */
 		public long getMonthDate(int position) {
+			if (!CalendarMonths.isGregorian(calendar)) {
+				calendar.clear();
+				calendar.set(Calendar.YEAR, startingYear + (startingMonth + position) / MONTHS_IN_YEAR);
+				calendar.set(Calendar.MONTH, (startingMonth + position) % MONTHS_IN_YEAR);
+				return calendar.getTimeInMillis();
+			}
 			// Each position represents new month from the start date.
-			calendar.clear();
-			calendar.set(Calendar.YEAR, startingYear + (startingMonth + position) / MONTHS_IN_YEAR);
-			calendar.set(Calendar.MONTH, (startingMonth + position) % MONTHS_IN_YEAR);
-			return calendar.getTimeInMillis();
+			final int monthIndex = CalendarMonths.getMonthIndex(startingYear, startingMonth) + position;
+			return CalendarMonths.getMonthStartMillis(monthIndex, calendar.getTimeZone());
 		}
 	}
 
@@ -2024,6 +2077,11 @@ public class CalendarView extends RecyclerView implements Widget {
 		 */
 		SmoothScroller scroller;
 
+		/**
+		 * Count of months ahead of the scroll direction to be prefetched.
+		 */
+		int monthsLookAhead = DEFAULT_MONTHS_LOOK_AHEAD;
+
 		/**
 		 * Same as {@link #LayoutManagerImpl(Context, int, float)} with default scroll speed of
 		 * {@code 50.0} per inch.
@@ -2077,6 +2135,48 @@ public class CalendarView extends RecyclerView implements Widget {
 			scroller.setTargetPosition(position);
 			startSmoothScroll(scroller);
 		}
+
+		/**
+		 * Sets a count of months ahead of the scroll direction to be prefetched.
+		 *
+		 * @param months The desired count of months.
+		 */
+		void setMonthsLookAhead(int months) {
+			this.monthsLookAhead = months;
+			setItemPrefetchEnabled(months > 0);
+		}
+
+		/**
+		 */
+		@Override
+		public void collectAdjacentPrefetchPositions(int dx, int dy, State state, LayoutPrefetchRegistry layoutPrefetchRegistry) {
+			// Super implementation registers the first month following the scroll direction.
+			super.collectAdjacentPrefetchPositions(dx, dy, state, layoutPrefetchRegistry);
+			final int childCount = getChildCount();
+			final int delta = getOrientation() == HORIZONTAL ? dx : dy;
+			if (delta == 0 || childCount == 0 || monthsLookAhead == 0) {
+				return;
+			}
+			final int itemCount = state.getItemCount();
+			final int direction = delta > 0 ? 1 : -1;
+			final View leadingChild = getChildAt(direction > 0 ? childCount - 1 : 0);
+			final View trailingChild = getChildAt(direction > 0 ? 0 : childCount - 1);
+			final int monthSize = getOrientation() == HORIZONTAL ? leadingChild.getWidth() : leadingChild.getHeight();
+			// Register months further ahead of the scroll direction, each one month further.
+			final int leadingPosition = getPosition(leadingChild);
+			for (int i = 2; i <= monthsLookAhead; i++) {
+				final int position = leadingPosition + direction * i;
+				if (position < 0 || position >= itemCount) {
+					break;
+				}
+				layoutPrefetchRegistry.addPosition(position, (i - 1) * monthSize);
+			}
+			// Keep also the month behind the scroll direction bound, so scrolling back does not hitch.
+			final int trailingPosition = getPosition(trailingChild) - direction;
+			if (trailingPosition >= 0 && trailingPosition < itemCount) {
+				layoutPrefetchRegistry.addPosition(trailingPosition, monthsLookAhead * monthSize);
+			}
+		}
 	}
 
 	/**
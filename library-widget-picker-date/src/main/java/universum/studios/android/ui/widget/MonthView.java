@@ -24,12 +24,14 @@ import android.content.Context;
 import android.content.res.ColorStateList;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PorterDuff;
 import android.graphics.Rect;
 import android.graphics.RectF;
+import android.graphics.Region;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.os.Build;
@@ -53,6 +55,7 @@ import android.view.accessibility.AccessibilityNodeInfo;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 import universum.studios.android.font.Font;
 import universum.studios.android.font.FontApplier;
@@ -131,6 +134,26 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private static final int PFLAG_DAY_TOUCHED = 0x00000001 << 16;
 
+	/**
+	 * Flag indicating whether the static content of this view should be drawn via cached layer.
+	 */
+	private static final int PFLAG_STATIC_LAYER_ENABLED = 0x00000001 << 17;
+
+	/**
+	 * Flag indicating whether the cached static layer needs to be drawn again.
+	 */
+	private static final int PFLAG_STATIC_LAYER_INVALID = 0x00000001 << 18;
+
+	/**
+	 * Flag indicating whether the cached static layer is being currently drawn.
+	 */
+	private static final int PFLAG_STATIC_LAYER_DRAWING = 0x00000001 << 19;
+
+	/**
+	 * Flag indicating whether the cached static layer has been drawn while this view was disabled.
+	 */
+	private static final int PFLAG_STATIC_LAYER_DISABLED = 0x00000001 << 20;
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -201,6 +224,23 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private static final int MAX_DAY_IN_MONTH = 31;
 
+	/**
+	 * Array with texts of day numbers from the range {@code [1, 31]} so they do not need to be
+	 * created whenever a day number is drawn.
+	 */
+	private static final String[] DAY_NUMBER_TEXTS = new String[MAX_DAY_IN_MONTH];
+
+	static {
+		for (int i = 0; i < MAX_DAY_IN_MONTH; i++) {
+			DAY_NUMBER_TEXTS[i] = Integer.toString(i + 1);
+		}
+	}
+
+	/**
+	 * Text of the maximum day number used to measure size of day numbers.
+	 */
+	private static final String MAX_DAY_IN_MONTH_TEXT = DAY_NUMBER_TEXTS[MAX_DAY_IN_MONTH - 1];
+
 	/*
 	 * Members =====================================================================================
 	 */
@@ -238,6 +278,16 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private final Rect TEXT_BOUNDS = new Rect();
 
+	/**
+	 * Cached bounds of the maximum day number text measured by the day letters paint.
+	 */
+	private final TextBoundsCache DAY_LETTER_TEXT_BOUNDS = new TextBoundsCache();
+
+	/**
+	 * Cached bounds of the maximum day number text measured by the day numbers paint.
+	 */
+	private final TextBoundsCache DAY_NUMBER_TEXT_BOUNDS = new TextBoundsCache();
+
 	/**
 	 * Rect representing the touchable area with day numbers.
 	 */
@@ -278,6 +328,12 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private int mYear;
 
+	/**
+	 * Title text composed from the month name and the year number updated whenever the date or
+	 * locale changes.
+	 */
+	private String mTitle = "";
+
 	/**
 	 * First day of week of the date specified via {@link #setDate(java.util.Date)} for the current
 	 * locale specified for this month view via {@link #setLocale(java.util.Locale)}.
@@ -347,6 +403,35 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private Calendar mCalendar;
 
+	/**
+	 * Table with names of months and days for the current locale specified for this month view
+	 * via {@link #setLocale(java.util.Locale)}.
+	 */
+	private CalendarNames mCalendarNames;
+
+	/**
+	 * Flag indicating whether the class of this month view overrides the deprecated
+	 * {@link #obtainCalendarFieldName(Calendar, int, int, Locale)} so names of months and days need
+	 * to be resolved per instance via that method instead of via {@link #mCalendarNames}.
+	 */
+	private boolean mCalendarFieldNameOverridden;
+
+	/**
+	 * Bitmap layer with cached static content (title, week day letters and day numbers) of this
+	 * view. Used only if enabled via {@link #setStaticLayerEnabled(boolean)}.
+	 */
+	private Bitmap mStaticLayer;
+
+	/**
+	 * Canvas used to draw the static content into {@link #mStaticLayer}.
+	 */
+	private Canvas mStaticLayerCanvas;
+
+	/**
+	 * Top position from which have been drawn day numbers into {@link #mStaticLayer}.
+	 */
+	private float mStaticLayerDayNumbersTop;
+
 	/**
 	 * Drawable used to draw the day selector indicating the current selected/pressed day.
 	 */
@@ -489,6 +574,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 			FontApplier.DEFAULT.applyFont(this, attrs, defStyleAttr, defStyleRes);
 		}
 		// Default set up.
+		this.mCalendarFieldNameOverridden = overridesCalendarFieldName(getClass());
 		this.mLocale = Locale.getDefault();
 		this.handleLocaleChange();
 
@@ -597,18 +683,49 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * drawn in {@link #onDraw(Canvas)}.
 	 */
 	private void handleLocaleChange() {
-		this.ensureCalendar(mLocale, true);
-		mCalendar.clear();
+		// Names for the locale are resolved only once and shared across all month views.
+		this.mCalendarNames = CalendarNames.obtain(mLocale);
+		this.mFirstDayOfWeek = mCalendarNames.getFirstDayOfWeek();
+		// Calendar of the previous locale may be re-used only if both locales use the Gregorian
+		// calendar, otherwise calendar specific for the new locale is needed.
+		final boolean reuseCalendar = mCalendar != null && mCalendarNames.isGregorian() && CalendarMonths.isGregorian(mCalendar);
+		this.ensureCalendar(mLocale, !reuseCalendar);
 		// Update day name letters.
-		mCalendar.setFirstDayOfWeek(mFirstDayOfWeek);
-		for (int i = 0; i < DAYS_IN_WEEK; i++) {
-			mCalendar.set(Calendar.DAY_OF_WEEK, i + 1);
-			final String letter = obtainCalendarFieldName(mCalendar, Calendar.DAY_OF_WEEK, CALENDAR_STYLE_SHORT, mLocale);
-			DAY_LETTERS[i] = letter.substring(0, 1).toUpperCase();
+		if (mCalendarFieldNameOverridden) {
+			mCalendar.clear();
+			mCalendar.setFirstDayOfWeek(mFirstDayOfWeek);
+			for (int i = 0; i < DAYS_IN_WEEK; i++) {
+				mCalendar.set(Calendar.DAY_OF_WEEK, i + 1);
+				final String letter = obtainCalendarFieldName(mCalendar, Calendar.DAY_OF_WEEK, CALENDAR_STYLE_SHORT, mLocale);
+				DAY_LETTERS[i] = letter.isEmpty() ? letter : letter.substring(0, 1).toUpperCase(mLocale);
+			}
+		} else {
+			for (int i = 0; i < DAYS_IN_WEEK; i++) {
+				DAY_LETTERS[i] = mCalendarNames.getDayLetter(i + 1);
+			}
 		}
 		this.handleDateUpdate();
 	}
 
+	/**
+	 * Checks whether the specified <var>viewClass</var> or any of its super classes up to MonthView
+	 * overrides {@link #obtainCalendarFieldName(Calendar, int, int, Locale)}.
+	 *
+	 * @param viewClass The class of month view to check.
+	 * @return {@code True} if the method is overridden, {@code false} otherwise.
+	 */
+	private static boolean overridesCalendarFieldName(Class<?> viewClass) {
+		while (viewClass != null && viewClass != MonthView.class) {
+			try {
+				viewClass.getDeclaredMethod("obtainCalendarFieldName", Calendar.class, int.class, int.class, Locale.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				viewClass = viewClass.getSuperclass();
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Invoked to obtain a name of a calendar field with the specified <var>field</var> identifier
 	 * from the given <var>calendar</var> for the specified <var>locale</var>.
@@ -623,8 +740,12 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * @param locale   The locale for which to obtain the requested name.
 	 * @return Name of the requested calendar field.
 	 * @see #resolveCalendarFieldName(Calendar, int, int, Locale)
+	 * @deprecated Names of months and days are by default resolved only once per locale and shared
+	 * across all month views. This method is invoked only if overridden, in which case the names are
+	 * resolved per instance of such month view.
 	 */
 	@NonNull
+	@Deprecated
 	protected String obtainCalendarFieldName(@NonNull Calendar calendar, int field, int style, @NonNull Locale locale) {
 		return resolveCalendarFieldName(calendar, field, style, locale);
 	}
@@ -690,27 +811,65 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 */
 	private void handleDateUpdate() {
 		this.ensureCalendar(mLocale, false);
-		// Obtain data for the date specified.
-		mCalendar.clear();
-		mCalendar.setTime(DATE);
-		this.mFirstDayOfWeek = mCalendar.getFirstDayOfWeek();
-		this.mMonthName = obtainCalendarFieldName(mCalendar, Calendar.MONTH, CALENDAR_STYLE_LONG, mLocale);
-		this.mMonthName = mMonthName.substring(0, 1).toUpperCase() + mMonthName.substring(1, mMonthName.length());
-		this.mYear = mCalendar.get(Calendar.YEAR);
-		this.mDaysCount = mCalendar.getActualMaximum(Calendar.DAY_OF_MONTH);
-		this.mStartDay = mCalendar.get(Calendar.DAY_OF_WEEK);
-		final int month = mCalendar.get(Calendar.MONTH);
-		// Obtain data for the current day.
-		mCalendar.clear();
-		mCalendar.setTimeInMillis(System.currentTimeMillis());
-		if (mYear == mCalendar.get(Calendar.YEAR) && month == mCalendar.get(Calendar.MONTH)) {
-			this.mCurrentDay = mCalendar.get(Calendar.DAY_OF_MONTH);
+		if (CalendarMonths.isGregorian(mCalendar)) {
+			// Obtain data for the date specified. These are computed arithmetically so no calendar
+			// computations are performed whenever this view is bound to a new date.
+			final TimeZone timeZone = mCalendar.getTimeZone();
+			final int monthIndex = CalendarMonths.getEpochDayMonthIndex(CalendarMonths.getEpochDay(DATE.getTime(), timeZone));
+			final int month = CalendarMonths.getMonth(monthIndex);
+			this.mMonthName = obtainMonthName(month);
+			this.mYear = CalendarMonths.getYear(monthIndex);
+			this.mDaysCount = CalendarMonths.getDaysInMonth(mYear, month);
+			this.mStartDay = CalendarMonths.getStartDayOfWeek(mYear, month);
+			// Obtain data for the current day.
+			final long currentDay = CalendarMonths.getEpochDay(System.currentTimeMillis(), timeZone);
+			if (CalendarMonths.getEpochDayMonthIndex(currentDay) == monthIndex) {
+				this.mCurrentDay = CalendarMonths.getEpochDayDayOfMonth(currentDay);
+			} else {
+				this.mCurrentDay = 0;
+			}
 		} else {
-			this.mCurrentDay = 0;
+			// Calendars of some locales use different eras (like Buddhist or Japanese imperial one),
+			// so the year needs to be obtained via the calendar.
+			mCalendar.clear();
+			mCalendar.setTime(DATE);
+			final int month = mCalendar.get(Calendar.MONTH);
+			this.mMonthName = obtainMonthName(month);
+			this.mYear = mCalendar.get(Calendar.YEAR);
+			this.mDaysCount = mCalendar.getActualMaximum(Calendar.DAY_OF_MONTH);
+			this.mStartDay = mCalendar.get(Calendar.DAY_OF_WEEK);
+			// Obtain data for the current day.
+			mCalendar.clear();
+			mCalendar.setTimeInMillis(System.currentTimeMillis());
+			if (mYear == mCalendar.get(Calendar.YEAR) && month == mCalendar.get(Calendar.MONTH)) {
+				this.mCurrentDay = mCalendar.get(Calendar.DAY_OF_MONTH);
+			} else {
+				this.mCurrentDay = 0;
+			}
 		}
+		this.mTitle = mMonthName + " " + Integer.toString(mYear);
+		this.invalidateStaticLayer();
 		invalidate();
 	}
 
+	/**
+	 * Obtains name of the specified <var>month</var> for the current locale. If this month view
+	 * overrides {@link #obtainCalendarFieldName(Calendar, int, int, Locale)}, the name is resolved
+	 * via that method for the current date.
+	 *
+	 * @param month The month for which to obtain its name.
+	 * @return Name of the requested month.
+	 */
+	private String obtainMonthName(int month) {
+		if (!mCalendarFieldNameOverridden) {
+			return mCalendarNames.getMonthName(month);
+		}
+		mCalendar.clear();
+		mCalendar.setTime(DATE);
+		final String name = obtainCalendarFieldName(mCalendar, Calendar.MONTH, CALENDAR_STYLE_LONG, mLocale);
+		return name.isEmpty() ? name : name.substring(0, 1).toUpperCase(mLocale) + name.substring(1);
+	}
+
 	/**
 	 * Same as {@link #getDateInMillis()} for {@link Date} object.
 	 *
@@ -756,7 +915,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 			if (mSelectedDay != 0) {
 				this.notifyDaySelected();
 			}
-			invalidateDayNumbersArea();
+			invalidateDaySelectionArea();
 		}
 	}
 
@@ -814,6 +973,59 @@ public class MonthView extends ViewWidget implements FontWidget {
 		return mCalendar.getTimeInMillis();
 	}
 
+	/**
+	 * Sets a boolean flag indicating whether this month view should draw its static content (title,
+	 * week day letters and day numbers) into a cached bitmap layer. The layer is drawn again only
+	 * if the date, locale, text appearance or layout of this view changes, so changes in selection
+	 * or pressed state of days redraw only the day selector and the highlighted days on top of it.
+	 * <p>
+	 * Note that the layer requires a bitmap of the size of this view, so it should be enabled only
+	 * for views where frequent selection changes outweigh this memory cost.
+	 * <p>
+	 * Default value: <b>false</b>
+	 *
+	 * @param enabled {@code True} to enable cached static layer, {@code false} otherwise.
+	 * @see #isStaticLayerEnabled()
+	 */
+	public void setStaticLayerEnabled(boolean enabled) {
+		if (hasPrivateFlag(PFLAG_STATIC_LAYER_ENABLED) != enabled) {
+			this.updatePrivateFlags(PFLAG_STATIC_LAYER_ENABLED, enabled);
+			if (!enabled) {
+				this.releaseStaticLayer();
+			}
+			this.invalidateStaticLayer();
+			invalidate();
+		}
+	}
+
+	/**
+	 * Returns a boolean flag indicating whether this month view draws its static content via
+	 * cached bitmap layer.
+	 *
+	 * @return {@code True} if cached static layer is enabled, {@code false} otherwise.
+	 * @see #setStaticLayerEnabled(boolean)
+	 */
+	public boolean isStaticLayerEnabled() {
+		return hasPrivateFlag(PFLAG_STATIC_LAYER_ENABLED);
+	}
+
+	/**
+	 * Marks the current static layer as invalid so it will be drawn again during the next
+	 * {@link #onDraw(Canvas)}.
+	 */
+	private void invalidateStaticLayer() {
+		this.updatePrivateFlags(PFLAG_STATIC_LAYER_INVALID, true);
+	}
+
+	/**
+	 * Releases the current static layer (if any). The layer bitmap is not recycled explicitly as
+	 * it may be still referenced by the last recorded display list of this view.
+	 */
+	private void releaseStaticLayer() {
+		this.mStaticLayer = null;
+		this.mStaticLayerCanvas = null;
+	}
+
 	/**
 	 * Sets a vertical offset for week day letters. This offset can be used to control space between
 	 * title (month + year) and week day letters components.
@@ -1792,7 +2004,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 		TOUCHABLE_AREA.top = paddingTop + height - mDaySelectorRadius;
 		// Compute width depending on the horizontal spacing + append height with space needed to
 		// draw max 6 rows of month days.
-		DAY_NUMBER_TEXT_INFO.paint.getTextBounds(Integer.toString(MAX_DAY_IN_MONTH), 0, 1, TEXT_BOUNDS);
+		DAY_NUMBER_TEXT_INFO.paint.getTextBounds(MAX_DAY_IN_MONTH_TEXT, 0, 1, TEXT_BOUNDS);
 		width += mSpacingHorizontal * (DAYS_IN_WEEK - 1) + TEXT_BOUNDS.width() * 2;
 		height += mSpacingVertical * (MAX_DAYS_ROWS - 1) + TEXT_BOUNDS.height();
 		TOUCHABLE_AREA.bottom = paddingTop + height + mDaySelectorRadius;
@@ -1815,6 +2027,16 @@ public class MonthView extends ViewWidget implements FontWidget {
 	protected void onSizeChanged(int w, int h, int oldw, int oldh) {
 		super.onSizeChanged(w, h, oldw, oldh);
 		this.mWidth = w;
+		this.releaseStaticLayer();
+	}
+
+	/**
+	 */
+	@Override
+	protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+		super.onLayout(changed, left, top, right, bottom);
+		// Offsets, spacing or padding might have been changed.
+		this.invalidateStaticLayer();
 	}
 
 	/**
@@ -1892,7 +2114,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * ones has been touched.
 	 */
 	private int findTouchedDay(float touchX, float touchY) {
-		DAY_NUMBER_TEXT_INFO.paint.getTextBounds(Integer.toString(MAX_DAY_IN_MONTH), 0, 2, TEXT_BOUNDS);
+		DAY_NUMBER_TEXT_INFO.paint.getTextBounds(MAX_DAY_IN_MONTH_TEXT, 0, 2, TEXT_BOUNDS);
 		// Remove padding data from touch coordinates to obtain touch coordinates for area only with
 		// day numbers.
 		touchX -= TOUCHABLE_AREA.left + mDaySelectorRadius;
@@ -1924,14 +2146,17 @@ public class MonthView extends ViewWidget implements FontWidget {
 	private boolean updateTextColors(int[] stateSet) {
 		boolean invalidate = TITLE_TEXT_INFO.updatePaintColor(stateSet);
 		invalidate |= DAY_LETTER_TEXT_INFO.updatePaintColor(stateSet);
-		// We do not update day number paint color here, because it is updated in onDraw(...) method,
-		// due to handling of selected/pressed states properly.
-		invalidate |= DAY_NUMBER_TEXT_INFO.mAppearance.getTextColor().isStateful();
 		final int currentDayColor = mCurrentDayTextColors.getColorForState(stateSet, mCurrentDayTextColors.getDefaultColor());
 		if (currentDayColor != mCurrentDayCurrentTextColor) {
 			this.mCurrentDayCurrentTextColor = currentDayColor;
 			invalidate = true;
 		}
+		if (invalidate) {
+			this.invalidateStaticLayer();
+		}
+		// We do not update day number paint color here, because it is updated in onDraw(...) method,
+		// due to handling of selected/pressed states properly.
+		invalidate |= DAY_NUMBER_TEXT_INFO.mAppearance.getTextColor().isStateful();
 		return invalidate;
 	}
 
@@ -1948,10 +2173,10 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * @see #invalidate(Rect)
 	 */
 	private void invalidateTitleArea() {
+		this.invalidateStaticLayer();
 		if (!TextUtils.isEmpty(mMonthName)) {
 			final int top = getPaddingTop();
-			final String title = mMonthName + " " + Integer.toString(mYear);
-			TITLE_TEXT_INFO.paint.getTextBounds(title, 0, title.length(), TEXT_BOUNDS);
+			TITLE_TEXT_INFO.paint.getTextBounds(mTitle, 0, mTitle.length(), TEXT_BOUNDS);
 			invalidate(
 					getPaddingLeft(),
 					top,
@@ -1968,6 +2193,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * @see #invalidate(Rect)
 	 */
 	private void invalidateDayLettersArea() {
+		this.invalidateStaticLayer();
 		if (!TextUtils.isEmpty(mMonthName) && !TextUtils.isEmpty(DAY_LETTERS[0])) {
 			TITLE_TEXT_INFO.paint.getTextBounds(mMonthName, 0, mMonthName.length(), TEXT_BOUNDS);
 			final int top = getPaddingTop() + TEXT_BOUNDS.height() + mDayLettersOffsetVertical;
@@ -1984,9 +2210,20 @@ public class MonthView extends ViewWidget implements FontWidget {
 	/**
 	 * Invalidates this view in area where the day numbers are presented using theirs current bounds.
 	 *
-	 * @see #invalidate(Rect)
+	 * @see #invalidateDaySelectionArea()
 	 */
 	private void invalidateDayNumbersArea() {
+		this.invalidateStaticLayer();
+		this.invalidateDaySelectionArea();
+	}
+
+	/**
+	 * Like {@link #invalidateDayNumbersArea()} but the static layer (if enabled) is not invalidated
+	 * as only selection or pressed state of days has changed.
+	 *
+	 * @see #invalidate(Rect)
+	 */
+	private void invalidateDaySelectionArea() {
 		invalidate(
 				(int) TOUCHABLE_AREA.left,
 				(int) TOUCHABLE_AREA.top,
@@ -2003,10 +2240,155 @@ public class MonthView extends ViewWidget implements FontWidget {
 	@Override
 	protected void onDraw(Canvas canvas) {
 		super.onDraw(canvas);
+		if (hasPrivateFlag(PFLAG_STATIC_LAYER_ENABLED) && ensureStaticLayer()) {
+			this.drawStaticLayer(canvas);
+			return;
+		}
+		this.drawContent(canvas);
+	}
+
+	/**
+	 * Draws the whole content of this view on the specified <var>canvas</var>.
+	 *
+	 * @param canvas The canvas on which to draw the content.
+	 * @return Top position from which have been drawn day numbers.
+	 */
+	private float drawContent(Canvas canvas) {
 		float top = getPaddingTop();
 		top = onDrawTitle(canvas, top, TITLE_TEXT_INFO.paint);
 		top = onDrawWeekDayLetters(canvas, top + mDayLettersOffsetVertical, DAY_LETTER_TEXT_INFO.paint);
-		onDrawDayNumbers(canvas, top + mDayNumbersOffsetVertical, DAY_NUMBER_TEXT_INFO.paint);
+		top += mDayNumbersOffsetVertical;
+		onDrawDayNumbers(canvas, top, DAY_NUMBER_TEXT_INFO.paint);
+		return top;
+	}
+
+	/**
+	 * Ensures that the static layer is created and contains up to date static content of this view.
+	 *
+	 * @return {@code True} if the static layer is ready to be drawn, {@code false} if it could not
+	 * be created.
+	 */
+	private boolean ensureStaticLayer() {
+		final int width = getWidth();
+		final int height = getHeight();
+		if (width <= 0 || height <= 0) {
+			return false;
+		}
+		if (mStaticLayer == null) {
+			try {
+				this.mStaticLayer = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+			} catch (OutOfMemoryError error) {
+				return false;
+			}
+			this.mStaticLayerCanvas = new Canvas(mStaticLayer);
+			this.invalidateStaticLayer();
+		}
+		if (hasPrivateFlag(PFLAG_STATIC_LAYER_DISABLED) == isEnabled()) {
+			// Colors of day numbers depend on the enabled state.
+			this.updatePrivateFlags(PFLAG_STATIC_LAYER_DISABLED, !isEnabled());
+			this.invalidateStaticLayer();
+		}
+		if (hasPrivateFlag(PFLAG_STATIC_LAYER_INVALID)) {
+			this.updatePrivateFlags(PFLAG_STATIC_LAYER_INVALID, false);
+			mStaticLayer.eraseColor(Color.TRANSPARENT);
+			this.updatePrivateFlags(PFLAG_STATIC_LAYER_DRAWING, true);
+			this.mStaticLayerDayNumbersTop = drawContent(mStaticLayerCanvas);
+			this.updatePrivateFlags(PFLAG_STATIC_LAYER_DRAWING, false);
+		}
+		return true;
+	}
+
+	/**
+	 * Draws the current static layer on the specified <var>canvas</var> followed by the day selector
+	 * and number texts of the selected and pressed days.
+	 *
+	 * @param canvas The canvas on which to draw the static layer.
+	 */
+	private void drawStaticLayer(Canvas canvas) {
+		final int selectedDay = mSelectedDay > 0 && mSelectedDay <= mDaysCount ? mSelectedDay : 0;
+		final int pressedDay = mPressedDay > 0 && mPressedDay <= mDaysCount && mPressedDay != selectedDay ? mPressedDay : 0;
+		if (selectedDay == 0 && pressedDay == 0) {
+			canvas.drawBitmap(mStaticLayer, 0, 0, null);
+			return;
+		}
+		final Paint paint = DAY_NUMBER_TEXT_INFO.paint;
+		paint.setFakeBoldText(false);
+		TEXT_BOUNDS.set(DAY_NUMBER_TEXT_BOUNDS.obtain(paint, MAX_DAY_IN_MONTH_TEXT));
+		// Cut out cells of the highlighted days from the layer so theirs static numbers do not show
+		// through the day selector. Non-rectangular clipping is not supported by hardware accelerated
+		// canvas prior to JELLY_BEAN_MR2, where the highlighted days are simply drawn over the layer.
+		final boolean clip = Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 || !canvas.isHardwareAccelerated();
+		final int saveCount = canvas.save();
+		if (clip && selectedDay != 0) {
+			this.clipOutDayCell(canvas, selectedDay);
+		}
+		if (clip && pressedDay != 0) {
+			this.clipOutDayCell(canvas, pressedDay);
+		}
+		canvas.drawBitmap(mStaticLayer, 0, 0, null);
+		canvas.restoreToCount(saveCount);
+		if (selectedDay != 0) {
+			this.drawHighlightedDay(canvas, selectedDay, paint);
+		}
+		if (pressedDay != 0) {
+			this.drawHighlightedDay(canvas, pressedDay, paint);
+		}
+	}
+
+	/**
+	 * Computes bounds of a cell of the specified <var>day</var> into {@link #mDay} bounds. The
+	 * current {@link #TEXT_BOUNDS} should contain bounds of the max day number text.
+	 *
+	 * @param day The day of which cell bounds to compute.
+	 */
+	private void computeDayCellBounds(int day) {
+		final int cell = day - 1 + mStartDay - 1;
+		final float textWidth = TEXT_BOUNDS.width();
+		final float left = getPaddingLeft() + textWidth / 2f + (cell % DAYS_IN_WEEK) * mSpacingHorizontal;
+		final float top = mStaticLayerDayNumbersTop + (cell / DAYS_IN_WEEK) * mSpacingVertical;
+		mDay.bounds.set(left - textWidth / 2f, top, left + textWidth / 2f, top + TEXT_BOUNDS.height());
+	}
+
+	/**
+	 * Excludes a cell of the specified <var>day</var> (its text along with its selector) from the
+	 * current clip of the given <var>canvas</var>.
+	 *
+	 * @param canvas The canvas of which clip to update.
+	 * @param day    The day of which cell to exclude.
+	 */
+	@SuppressWarnings("deprecation")
+	private void clipOutDayCell(Canvas canvas, int day) {
+		this.computeDayCellBounds(day);
+		final RectF bounds = mDay.bounds;
+		final float centerX = bounds.centerX();
+		final float centerY = bounds.centerY();
+		final float left = Math.min(bounds.left, centerX - mDaySelectorRadius);
+		final float top = Math.min(bounds.top, centerY - mDaySelectorRadius);
+		final float right = Math.max(bounds.right, centerX + mDaySelectorRadius);
+		final float bottom = Math.max(bounds.bottom, centerY + mDaySelectorRadius);
+		if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+			canvas.clipOutRect(left, top, right, bottom);
+		} else {
+			canvas.clipRect(left, top, right, bottom, Region.Op.DIFFERENCE);
+		}
+	}
+
+	/**
+	 * Draws the day selector and the number text of the specified highlighted <var>day</var>
+	 * on top of the static layer.
+	 *
+	 * @param canvas The canvas on which to draw.
+	 * @param day    The selected or pressed day to draw.
+	 * @param paint  Paint for day numbers.
+	 */
+	private void drawHighlightedDay(Canvas canvas, int day, Paint paint) {
+		this.computeDayCellBounds(day);
+		this.drawDaySelector(canvas, mDay.bounds.centerX(), mDay.bounds.top, day);
+		mDay.number = day;
+		mDay.current = day == mCurrentDay;
+		mDay.pressed = day == mPressedDay;
+		mDay.selected = day == mSelectedDay;
+		onDrawDayNumber(canvas, mDay, paint);
 	}
 
 	/**
@@ -2025,7 +2407,7 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * @see #onDrawDayNumbers(Canvas, float, Paint)
 	 */
 	protected float onDrawTitle(@NonNull Canvas canvas, float top, @NonNull Paint paint) {
-		final CharSequence titleText = mMonthName + " " + Integer.toString(mYear);
+		final String titleText = mTitle;
 		top += (int) paint.getTextSize();
 		canvas.drawText(
 				titleText,
@@ -2056,8 +2438,8 @@ public class MonthView extends ViewWidget implements FontWidget {
 		 * We will draw 7 columns for each day in week.
 		 */
 		int dayIndex = mFirstDayOfWeek - 1;
-		paint.getTextBounds(Integer.toString(MAX_DAY_IN_MONTH), 0, 2, TEXT_BOUNDS);
-		float left = getPaddingLeft() + TEXT_BOUNDS.width() / 2f;
+		final Rect textBounds = DAY_LETTER_TEXT_BOUNDS.obtain(paint, MAX_DAY_IN_MONTH_TEXT);
+		float left = getPaddingLeft() + textBounds.width() / 2f;
 		top += (int) paint.getTextSize();
 		for (int i = 0; i < DAYS_IN_WEEK; i++) {
 			final String dayLetter = DAY_LETTERS[dayIndex];
@@ -2088,7 +2470,10 @@ public class MonthView extends ViewWidget implements FontWidget {
 		 */
 		int day = 1;
 		int startCol = mStartDay;
-		paint.getTextBounds(Integer.toString(MAX_DAY_IN_MONTH), 0, 2, TEXT_BOUNDS);
+		final boolean layerDrawing = hasPrivateFlag(PFLAG_STATIC_LAYER_DRAWING);
+		// Measure without fake bold that may remain set from drawing of the current day.
+		paint.setFakeBoldText(false);
+		TEXT_BOUNDS.set(DAY_NUMBER_TEXT_BOUNDS.obtain(paint, MAX_DAY_IN_MONTH_TEXT));
 		final float textHeight = TEXT_BOUNDS.height();
 		final float textWidth = TEXT_BOUNDS.width();
 		final float leftOrigin = getPaddingLeft() + textWidth / 2f;
@@ -2101,8 +2486,9 @@ public class MonthView extends ViewWidget implements FontWidget {
 				if (day > mDaysCount) {
 					break;
 				}
-				final boolean pressedDay = day == mPressedDay;
-				final boolean selectedDay = day == mSelectedDay;
+				// Highlighted days are drawn on top of the static layer, so it contains only normal days.
+				final boolean pressedDay = !layerDrawing && day == mPressedDay;
+				final boolean selectedDay = !layerDrawing && day == mSelectedDay;
 				// Draw selector for selected/pressed day.
 				if (selectedDay || pressedDay) {
 					drawDaySelector(canvas, left, top, day);
@@ -2194,7 +2580,10 @@ public class MonthView extends ViewWidget implements FontWidget {
 		}
 		paint.setColor(textColor);
 		paint.setFakeBoldText(day.isCurrent());
-		canvas.drawText(Integer.toString(day.number), day.bounds.centerX(), day.bounds.bottom, paint);
+		final String dayText = day.number > 0 && day.number <= MAX_DAY_IN_MONTH ?
+				DAY_NUMBER_TEXTS[day.number - 1] :
+				Integer.toString(day.number);
+		canvas.drawText(dayText, day.bounds.centerX(), day.bounds.bottom, paint);
 	}
 
 	/**
@@ -2253,6 +2642,46 @@ public class MonthView extends ViewWidget implements FontWidget {
 	 * Inner classes ===============================================================================
 	 */
 
+	/**
+	 * Cache for bounds of a text measured by a specific paint. The bounds are measured again only
+	 * if text size or typeface of the paint changes.
+	 */
+	private static final class TextBoundsCache {
+
+		/**
+		 * Cached bounds of the text.
+		 */
+		final Rect bounds = new Rect();
+
+		/**
+		 * Text for which are the bounds cached.
+		 */
+		String text;
+
+		/**
+		 * Text size and typeface of the paint by which have been the bounds measured.
+		 */
+		float textSize = -1;
+		Typeface typeface;
+
+		/**
+		 * Obtains bounds of the specified <var>text</var> measured by the given <var>paint</var>.
+		 *
+		 * @param paint The paint used to measure the text.
+		 * @param text  The text of which bounds to obtain.
+		 * @return Cached or newly measured bounds.
+		 */
+		Rect obtain(Paint paint, String text) {
+			if (this.text != text || textSize != paint.getTextSize() || typeface != paint.getTypeface()) {
+				paint.getTextBounds(text, 0, text.length(), bounds);
+				this.text = text;
+				this.textSize = paint.getTextSize();
+				this.typeface = paint.getTypeface();
+			}
+			return bounds;
+		}
+	}
+
 	/**
 	 * A {@link WidgetSavedState} implementation used to ensure that the state of {@link MonthView}
 	 * is properly saved.
@@ -0,0 +1,118 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+import universum.studios.android.test.local.LocalTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Compares month data computations performed by {@link MonthView} and
+ * {@link CalendarView.CalendarDataSet} via {@link CalendarMonths} against the same computations
+ * performed via {@link Calendar}.
+ * <p>
+ * The performance comparison is ignored by default and may be run explicitly as benchmark.
+ *
+ * @author Martin Albedinsky
+ */
+public final class CalendarMonthsBenchmarkTest extends LocalTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "CalendarMonthsBenchmarkTest";
+
+	private static final int YEAR_FROM = 1950;
+	private static final int MONTHS_COUNT = 100 * 12;
+	private static final int WARM_UP_ITERATIONS = 20;
+	private static final int ITERATIONS = 50;
+
+	private final TimeZone timeZone = TimeZone.getTimeZone("Europe/Prague");
+	private final Calendar calendar = new GregorianCalendar(timeZone);
+
+	@Test
+	public void testCalendarMonthsAgainstCalendar() {
+		assertThat(computeViaCalendarMonths(), is(computeViaCalendar()));
+	}
+
+	@Test
+	@Ignore("Benchmark, run explicitly.")
+	public void benchmarkCalendarMonthsAgainstCalendar() {
+		for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+			computeViaCalendar();
+			computeViaCalendarMonths();
+		}
+		long startTime = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			computeViaCalendar();
+		}
+		final long calendarTime = (System.nanoTime() - startTime) / ITERATIONS;
+		startTime = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			computeViaCalendarMonths();
+		}
+		final long calendarMonthsTime = (System.nanoTime() - startTime) / ITERATIONS;
+		System.out.println(TAG + ": " + MONTHS_COUNT + " months via Calendar took " + calendarTime / 1000 + " us, " +
+				"via CalendarMonths took " + calendarMonthsTime / 1000 + " us."
+		);
+	}
+
+	private long computeViaCalendar() {
+		long checksum = 0;
+		for (int i = 0; i < MONTHS_COUNT; i++) {
+			// Date of the month as computed by CalendarDataSet.getMonthDate(int).
+			calendar.clear();
+			calendar.set(Calendar.YEAR, YEAR_FROM + i / 12);
+			calendar.set(Calendar.MONTH, i % 12);
+			final long monthDate = calendar.getTimeInMillis();
+			// Month data as computed by MonthView.handleDateUpdate().
+			calendar.clear();
+			calendar.setTimeInMillis(monthDate);
+			checksum = 31 * checksum + calendar.get(Calendar.YEAR);
+			checksum = 31 * checksum + calendar.get(Calendar.MONTH);
+			checksum = 31 * checksum + calendar.getActualMaximum(Calendar.DAY_OF_MONTH);
+			checksum = 31 * checksum + calendar.get(Calendar.DAY_OF_WEEK);
+		}
+		return checksum;
+	}
+
+	private long computeViaCalendarMonths() {
+		long checksum = 0;
+		final int startMonthIndex = CalendarMonths.getMonthIndex(YEAR_FROM, Calendar.JANUARY);
+		for (int i = 0; i < MONTHS_COUNT; i++) {
+			// Date of the month as computed by CalendarDataSet.getMonthDate(int).
+			final long monthDate = CalendarMonths.getMonthStartMillis(startMonthIndex + i, timeZone);
+			// Month data as computed by MonthView.handleDateUpdate().
+			final int monthIndex = CalendarMonths.getEpochDayMonthIndex(CalendarMonths.getEpochDay(monthDate, timeZone));
+			final int year = CalendarMonths.getYear(monthIndex);
+			final int month = CalendarMonths.getMonth(monthIndex);
+			checksum = 31 * checksum + year;
+			checksum = 31 * checksum + month;
+			checksum = 31 * checksum + CalendarMonths.getDaysInMonth(year, month);
+			checksum = 31 * checksum + CalendarMonths.getStartDayOfWeek(year, month);
+		}
+		return checksum;
+	}
+}
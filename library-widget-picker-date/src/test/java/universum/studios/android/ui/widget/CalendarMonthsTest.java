@@ -0,0 +1,118 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+ */
+package universum.studios.android.ui.widget;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import universum.studios.android.test.local.LocalTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class CalendarMonthsTest extends LocalTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "CalendarMonthsTest";
+
+	private static final int YEAR_FROM = 1901;
+	private static final int YEAR_TO = 2099;
+	private static final TimeZone[] TIME_ZONES = {
+			TimeZone.getTimeZone("UTC"),
+			TimeZone.getTimeZone("Europe/Prague"),
+			TimeZone.getTimeZone("America/Los_Angeles"),
+			TimeZone.getTimeZone("Pacific/Kiritimati")
+	};
+
+	@Test
+	public void testIsGregorian() {
+		assertThat(CalendarMonths.isGregorian(new GregorianCalendar()), is(true));
+		assertThat(CalendarMonths.isGregorian(Calendar.getInstance(Locale.US)), is(true));
+		assertThat(CalendarMonths.isGregorian(new GregorianCalendar() {}), is(false));
+	}
+
+	@Test
+	public void testMonthIndex() {
+		assertThat(CalendarMonths.getMonthIndex(1970, Calendar.JANUARY), is(0));
+		assertThat(CalendarMonths.getMonthIndex(1969, Calendar.DECEMBER), is(-1));
+		for (int year = YEAR_FROM; year <= YEAR_TO; year++) {
+			for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+				final int monthIndex = CalendarMonths.getMonthIndex(year, month);
+				assertThat(CalendarMonths.getYear(monthIndex), is(year));
+				assertThat(CalendarMonths.getMonth(monthIndex), is(month));
+			}
+		}
+	}
+
+	@Test
+	public void testMonthDataAgainstGregorianCalendar() {
+		final Calendar calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+		for (int year = YEAR_FROM; year <= YEAR_TO; year++) {
+			assertThat(CalendarMonths.isLeapYear(year), is(((GregorianCalendar) calendar).isLeapYear(year)));
+			for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+				calendar.clear();
+				calendar.set(year, month, 1);
+				assertThat(CalendarMonths.getDaysInMonth(year, month), is(calendar.getActualMaximum(Calendar.DAY_OF_MONTH)));
+				assertThat(CalendarMonths.getStartDayOfWeek(year, month), is(calendar.get(Calendar.DAY_OF_WEEK)));
+				assertThat(CalendarMonths.getEpochDay(year, month, 1), is(calendar.getTimeInMillis() / (24 * 60 * 60 * 1000L)));
+			}
+		}
+	}
+
+	@Test
+	public void testEpochDayAgainstGregorianCalendar() {
+		for (final TimeZone timeZone : TIME_ZONES) {
+			final Calendar calendar = new GregorianCalendar(timeZone);
+			calendar.clear();
+			calendar.set(YEAR_FROM, Calendar.JANUARY, 1, 12, 0);
+			while (calendar.get(Calendar.YEAR) <= YEAR_TO) {
+				final long epochDay = CalendarMonths.getEpochDay(calendar.getTimeInMillis(), timeZone);
+				final int monthIndex = CalendarMonths.getEpochDayMonthIndex(epochDay);
+				assertThat(CalendarMonths.getYear(monthIndex), is(calendar.get(Calendar.YEAR)));
+				assertThat(CalendarMonths.getMonth(monthIndex), is(calendar.get(Calendar.MONTH)));
+				assertThat(CalendarMonths.getEpochDayDayOfMonth(epochDay), is(calendar.get(Calendar.DAY_OF_MONTH)));
+				assertThat(CalendarMonths.getDayOfWeek(epochDay), is(calendar.get(Calendar.DAY_OF_WEEK)));
+				calendar.add(Calendar.DAY_OF_MONTH, 1);
+			}
+		}
+	}
+
+	@Test
+	public void testMonthStartMillisAgainstGregorianCalendar() {
+		for (final TimeZone timeZone : TIME_ZONES) {
+			final Calendar calendar = new GregorianCalendar(timeZone);
+			for (int year = YEAR_FROM; year <= YEAR_TO; year++) {
+				for (int month = Calendar.JANUARY; month <= Calendar.DECEMBER; month++) {
+					calendar.clear();
+					calendar.set(Calendar.YEAR, year);
+					calendar.set(Calendar.MONTH, month);
+					final long monthStartMillis = CalendarMonths.getMonthStartMillis(CalendarMonths.getMonthIndex(year, month), timeZone);
+					assertThat(monthStartMillis, is(calendar.getTimeInMillis()));
+				}
+			}
+		}
+	}
+}
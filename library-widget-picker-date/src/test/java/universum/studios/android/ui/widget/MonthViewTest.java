@@ -0,0 +1,91 @@
+/*
+ * =================================================================================================
+ *                             Copyright (C) 2017 Universum Studios
+ * =================================================================================================
+ *         Licensed under the Apache License, Version 2.0 or later (further "License" only).
+ * -------------------------------------------------------------------------------------------------
+ * You may use this file only in compliance with the License. More details and copy of this License 
+ * you may obtain at
+ * 
+ * 		http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * You can redistribute, modify or publish any part of the code written within this file but as it 
+ * is described in the License, the software distributed under the License is distributed on an 
+ * "AS IS" BASIS, WITHOUT WARRANTIES or CONDITIONS OF ANY KIND.
+ * 
+ * See the License for the specific language governing permissions and limitations under the License.
+ * =================================================================================================
+package universum.studios.android.ui.widget;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Locale;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class MonthViewTest extends RobolectricTestCase {
+
+	@SuppressWarnings("unused")
+	private static final String TAG = "MonthViewTest";
+
+	@Test
+	public void testOverriddenCalendarFieldNameIsObtainedPerInstance() {
+		final TestMonthView view = new TestMonthView(mApplication);
+		assertThat(count(view.requestedFields, Calendar.DAY_OF_WEEK), is(7));
+		assertThat(count(view.requestedFields, Calendar.MONTH), is(1));
+		view.requestedFields.clear();
+		view.setDate(view.getDateInMillis() + 40L * 24 * 60 * 60 * 1000);
+		assertThat(count(view.requestedFields, Calendar.DAY_OF_WEEK), is(0));
+		assertThat(count(view.requestedFields, Calendar.MONTH), is(1));
+		view.requestedFields.clear();
+		view.setLocale(Locale.GERMANY.equals(view.getLocale()) ? Locale.FRANCE : Locale.GERMANY);
+		assertThat(count(view.requestedFields, Calendar.DAY_OF_WEEK), is(7));
+		assertThat(count(view.requestedFields, Calendar.MONTH), is(1));
+	}
+
+	@Test
+	public void testOverriddenCalendarFieldNameIsObtainedForSubclass() {
+		final TestMonthView view = new TestMonthView(mApplication) {};
+		assertThat(count(view.requestedFields, Calendar.DAY_OF_WEEK), is(7));
+		assertThat(count(view.requestedFields, Calendar.MONTH), is(1));
+	}
+
+	private static int count(List<Integer> fields, int field) {
+		int count = 0;
+		for (final int requestedField : fields) {
+			if (requestedField == field) count++;
+		}
+		return count;
+	}
+
+	private static class TestMonthView extends MonthView {
+
+		// Initialized lazily as names are obtained already during construction of the view.
+		List<Integer> requestedFields;
+
+		TestMonthView(@NonNull Context context) {
+			super(context);
+		}
+
+		@NonNull
+		@Override
+		@SuppressWarnings("deprecation")
+		protected String obtainCalendarFieldName(@NonNull Calendar calendar, int field, int style, @NonNull Locale locale) {
+			if (requestedFields == null) requestedFields = new ArrayList<>();
+			requestedFields.add(field);
+			return super.obtainCalendarFieldName(calendar, field, style, locale);
+		}
+	}
+}
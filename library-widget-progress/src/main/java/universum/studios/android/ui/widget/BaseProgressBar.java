@@ -35,18 +35,19 @@ import android.support.annotation.AttrRes;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.annotation.StyleRes;
-import android.support.v4.util.Pools;
+import android.support.v4.view.ViewCompat;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import universum.studios.android.ui.R;
 import universum.studios.android.ui.UiConfig;
 import universum.studios.android.ui.graphics.drawable.ProgressDrawable;
+import universum.studios.android.ui.graphics.drawable.ProgressFrameStats;
 
 /**
  * A {@link ViewWidget} implementation which represents a base container for {@link ProgressDrawable}
@@ -98,7 +99,8 @@ import universum.studios.android.ui.graphics.drawable.ProgressDrawable;
 public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWidget
 		implements
 		ProgressDrawable.AnimationCallback,
-		ProgressDrawable.ExplodeAnimationCallback {
+		ProgressDrawable.ExplodeAnimationCallback,
+		ProgressDrawable.FrameStatsCallback {
 
 	/*
 	 * Interface ===================================================================================
@@ -159,6 +161,24 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 		void onImploded(@NonNull BaseProgressBar progressBar, @NonNull ProgressDrawable drawable);
 	}
 
+	/**
+	 * Listener which can receive frame statistics of progress drawable.
+	 *
+	 * @see ProgressDrawable#setFrameStatsEnabled(boolean)
+	 */
+	public interface OnProgressFrameStatsListener {
+
+		/**
+		 * Invoked whenever the frame statistics of the specified progress <var>drawable</var> are
+		 * reported, that is, whenever its current animation session is stopped.
+		 *
+		 * @param progressBar A progress bar to which is the specified drawable attached to.
+		 * @param drawable    The progress drawable of which frame statistics are reported.
+		 * @param stats       The frame statistics collected by the drawable.
+		 */
+		void onFrameStatsReported(@NonNull BaseProgressBar progressBar, @NonNull ProgressDrawable drawable, @NonNull ProgressFrameStats stats);
+	}
+
 	/*
 	 * Constants ===================================================================================
 	 */
@@ -183,11 +203,6 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	 */
 	private static final long ACCESSIBILITY_EVENT_DELAY = 200;
 
-	/**
-	 * Flag indicating whether {@link #mRefreshProgressRunnable} has been posted or not.
-	 */
-	private static final int PFLAG_REFRESH_PROGRESS_POSTED = 0x00008000;
-
 	/**
 	 * Flag indicating whether an indeterminate animation should be stopped after the progress
 	 * drawable has been imploded.
@@ -198,11 +213,6 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	 * Static members ==============================================================================
 	 */
 
-	/**
-	 * Lock used for synchronized operations.
-	 */
-	private static final Object LOCK = new Object();
-
 	/*
 	 * Members =====================================================================================
 	 */
@@ -252,6 +262,11 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	 */
 	private OnProgressExplodeAnimationListener mProgressExplodeAnimationListener;
 
+	/**
+	 * Frame statistics callback delegate for the current ProgressDrawable.
+	 */
+	private OnProgressFrameStatsListener mProgressFrameStatsListener;
+
 	/**
 	 * Data used when tinting components of this view.
 	 */
@@ -260,7 +275,7 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	/**
 	 * Task used to refresh progress from the background thread.
 	 */
-	private RefreshProgressRunnable mRefreshProgressRunnable;
+	private final RefreshProgressRunnable mRefreshProgressRunnable = new RefreshProgressRunnable();
 
 	/**
 	 * Task used to post an accessibility event for the changed progress.
@@ -606,6 +621,42 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 		this.mProgressExplodeAnimationListener = listener;
 	}
 
+	/**
+	 * Registers a callback to be invoked whenever frame statistics of the progress drawable attached
+	 * to this progress bar are reported. Frame statistics of the drawable are enabled while this
+	 * listener is registered.
+	 *
+	 * @param listener Listener callback. May be {@code null} to clear the current one.
+	 * @see ProgressDrawable#setFrameStatsEnabled(boolean)
+	 */
+	public void setOnProgressFrameStatsListener(@Nullable OnProgressFrameStatsListener listener) {
+		this.mProgressFrameStatsListener = listener;
+		if (mDrawable != null) {
+			this.attachFrameStatsCallback(mDrawable);
+		}
+	}
+
+	/**
+	 * Enables frame statistics of the given <var>drawable</var> and attaches this progress bar as
+	 * its frame statistics callback if there is frame statistics listener registered, otherwise
+	 * disables them.
+	 *
+	 * @param drawable The drawable to which to attach the callback.
+	 */
+	private void attachFrameStatsCallback(D drawable) {
+		final boolean enabled = mProgressFrameStatsListener != null;
+		drawable.setFrameStatsEnabled(enabled);
+		drawable.setFrameStatsCallback(enabled ? this : null);
+	}
+
+	/**
+	 */
+	@Override
+	public void onFrameStatsReported(@NonNull ProgressDrawable drawable, @NonNull ProgressFrameStats stats) {
+		if (mProgressFrameStatsListener != null)
+			mProgressFrameStatsListener.onFrameStatsReported(this, drawable, stats);
+	}
+
 	/**
 	 * Applies a tint to the progress graphics of the drawable, if specified. This call does not modify
 	 * the current tint mode, which is {@link android.graphics.PorterDuff.Mode#SRC_IN} by default.
@@ -897,6 +948,7 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 				mDrawable.setCallback(null);
 				mDrawable.setAnimationCallback(null);
 				mDrawable.setExplodeAnimationCallback(null);
+				mDrawable.setFrameStatsCallback(null);
 				unscheduleDrawable(mDrawable);
 			}
 			if (drawable != null) {
@@ -913,6 +965,7 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 				requestLayout();
 			}
 			if ((mDrawable = drawable) != null) {
+				if (mProgressFrameStatsListener != null) this.attachFrameStatsCallback(mDrawable);
 				onSetUpDrawable(mDrawable);
 			}
 		}
@@ -1060,8 +1113,11 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	protected void onAttachedToWindow() {
 		super.onAttachedToWindow();
 		this.updatePrivateFlags(PrivateFlags.PFLAG_ATTACHED_TO_WINDOW, true);
+		mRefreshProgressRunnable.attach();
 		mDrawable.setAnimationCallback(this);
 		mDrawable.setExplodeAnimationCallback(this);
+		// Resumes animation frames suspended when this view has been detached.
+		mDrawable.setVisible(getVisibility() == VISIBLE, false);
 		if (getVisibility() == VISIBLE) {
 			switch (mMode) {
 				case INDETERMINATE:
@@ -1075,10 +1131,13 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	 */
 	@Override
 	protected void onDetachedFromWindow() {
-		stopIndeterminate();
+		// Only suspend animation frames, so the animation may seamlessly continue if this view
+		// is attached again.
+		mDrawable.setVisible(false, false);
 		mDrawable.setAnimationCallback(null);
 		mDrawable.setExplodeAnimationCallback(null);
 		this.updatePrivateFlags(PrivateFlags.PFLAG_ATTACHED_TO_WINDOW, false);
+		mRefreshProgressRunnable.detach();
 		super.onDetachedFromWindow();
 	}
 
@@ -1164,9 +1223,18 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	}
 
 	/**
-	 * Handles change in visibility of this view. This will stop all animations if the specified
-	 * <var>visible</var> flag is {@code false}, otherwise it will start indeterminate animations
-	 * if the current mode is not <b>DETERMINATE</b>.
+	 */
+	@Override
+	protected void onWindowVisibilityChanged(int visibility) {
+		super.onWindowVisibilityChanged(visibility);
+		if (mDrawable != null && (mPrivateFlags & PrivateFlags.PFLAG_ATTACHED_TO_WINDOW) != 0)
+			handleVisibilityChange(visibility == VISIBLE && isShown());
+	}
+
+	/**
+	 * Handles change in visibility of this view. This will suspend all running animations of the
+	 * progress drawable if the specified <var>visible</var> flag is {@code false}, otherwise it will
+	 * resume them or start indeterminate animations if the current mode is not <b>DETERMINATE</b>.
 	 *
 	 * @param visible {@code True} if this progress bar is visible, {@code false} otherwise..
 	 */
@@ -1176,11 +1244,8 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 		}
 		switch (mMode) {
 			case INDETERMINATE:
-				if (visible) {
-					startIndeterminate();
-				} else {
-					stopIndeterminateImmediate();
-				}
+				// Drawable suspends its animation frames by itself while invisible.
+				if (visible) startIndeterminate();
 				postInvalidate();
 				break;
 		}
@@ -1261,26 +1326,27 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	 * so this can be also called from the background thread.
 	 * <p>
 	 * If called from the UI thread, {@link #onRefreshProgress(int, int, boolean)} will be called
-	 * immediately, otherwise to refresh progress will be posted runnable.
+	 * immediately, otherwise the progress value is stored as pending and a runnable to refresh it
+	 * is posted for the next animation frame (if not posted already). Multiple updates of the same
+	 * progress received before the next frame are coalesced, so only the latest one is refreshed.
+	 * While this view is detached from window, the pending values are only stored and the runnable
+	 * is posted when this view is attached again.
 	 *
 	 * @param id       One of {@link android.R.id#progress} or {@link android.R.id#secondaryProgress}.
 	 * @param progress The progress value to be refreshed.
 	 */
 	@AnyThread
 	@SuppressWarnings("WrongThread")
-	final synchronized void refreshProgress(int id, int progress) {
+	final void refreshProgress(int id, int progress) {
 		if (mUiThreadId == Thread.currentThread().getId()) {
 			onRefreshProgress(id, progress, true);
 			return;
 		}
-		if (mRefreshProgressRunnable == null) {
-			this.mRefreshProgressRunnable = new RefreshProgressRunnable();
-		}
-		final RefreshData refreshData = RefreshData.obtain(id, progress);
-		mRefreshProgressRunnable.refreshData.add(refreshData);
-		if ((mPrivateFlags & PrivateFlags.PFLAG_ATTACHED_TO_WINDOW) != 0 && (mPrivateFlags & PFLAG_REFRESH_PROGRESS_POSTED) == 0) {
-			post(mRefreshProgressRunnable);
-			this.updatePrivateFlags(PFLAG_REFRESH_PROGRESS_POSTED, true);
+		mRefreshProgressRunnable.refresh(id, progress);
+		// Posting to a detached view prior to N would enqueue the runnable into a queue of this
+		// (background) thread that is never run, so post only while attached.
+		if (mRefreshProgressRunnable.attached && mRefreshProgressRunnable.posted.compareAndSet(false, true)) {
+			ViewCompat.postOnAnimation(this, mRefreshProgressRunnable);
 		}
 	}
 
@@ -1484,79 +1550,79 @@ public abstract class BaseProgressBar<D extends ProgressDrawable> extends ViewWi
 	}
 
 	/**
-	 * Class holding all data necessary to properly refresh progress value from the background thread.
+	 * Task used to refresh current progress value from the background thread. Holds only the latest
+	 * pending value for each progress, so it may be updated from any thread without locking.
 	 */
-	private static final class RefreshData {
+	private final class RefreshProgressRunnable implements Runnable {
 
 		/**
-		 * Pool of RefreshData objects for better performance.
+		 * Value indicating that there is no pending progress value to refresh.
 		 */
-		static final Pools.SynchronizedPool<RefreshData> POOL = new Pools.SynchronizedPool<>(25);
+		static final int NO_PROGRESS = Integer.MIN_VALUE;
 
 		/**
-		 * Id of progress to refresh.
+		 * Pending values of primary and secondary progress to be refreshed.
 		 */
-		int id;
+		final AtomicInteger progress = new AtomicInteger(NO_PROGRESS), secondaryProgress = new AtomicInteger(NO_PROGRESS);
 
 		/**
-		 * Progress value to be refreshed.
+		 * Boolean flag indicating whether this runnable has been posted and not run yet.
 		 */
-		int progress;
+		final AtomicBoolean posted = new AtomicBoolean(false);
 
 		/**
-		 * Obtains an instance of RefreshData from the pool or creates a new instance if the pool
-		 * is currently empty.
-		 *
-		 * @param id       The id of progress for which to create the new data. One of {@link android.R.id#progress}
-		 *                 or {@link android.R.id#secondaryProgress}.
-		 * @param progress Value of progress to refresh.
-		 * @return Acquired or new instance of RefreshData object with the specified data.
+		 * Boolean flag indicating whether the progress bar is attached to window so this runnable
+		 * may be posted.
 		 */
-		static RefreshData obtain(int id, int progress) {
-			RefreshData data = POOL.acquire();
-			if (data == null) {
-				data = new RefreshData();
+		volatile boolean attached;
+
+		/**
+		 * Called whenever the progress bar is attached to window in order to post this runnable
+		 * if there are any progress values received while the progress bar has been detached.
+		 */
+		void attach() {
+			this.attached = true;
+			// Reset the posted flag also here in case this runnable has been posted by a background
+			// thread concurrently with detaching of the progress bar.
+			posted.set(false);
+			if ((progress.get() != NO_PROGRESS || secondaryProgress.get() != NO_PROGRESS) && posted.compareAndSet(false, true)) {
+				ViewCompat.postOnAnimation(BaseProgressBar.this, this);
 			}
-			data.id = id;
-			data.progress = progress;
-			return data;
 		}
 
 		/**
-		 * Recycles this refresh data object by releasing it from the current refresh data pool.
+		 * Called whenever the progress bar is detached from window in order to remove this runnable
+		 * from the posted ones. Pending progress values are kept, so they are refreshed on attach.
 		 */
-		void recycle() {
-			POOL.release(this);
+		void detach() {
+			this.attached = false;
+			removeCallbacks(this);
+			posted.set(false);
 		}
-	}
-
-	/**
-	 * Task used to refresh current progress value from the background thread.
-	 */
-	private final class RefreshProgressRunnable implements Runnable {
 
 		/**
-		 * List of refresh data to be processed to properly refresh progress.
+		 * Stores the specified <var>value</var> as pending for progress with the specified <var>id</var>.
+		 *
+		 * @param id    One of {@link android.R.id#progress} or {@link android.R.id#secondaryProgress}.
+		 * @param value Value of progress to refresh.
 		 */
-		final List<RefreshData> refreshData = new ArrayList<>();
+		void refresh(int id, int value) {
+			(id == android.R.id.secondaryProgress ? secondaryProgress : progress).set(value);
+		}
 
 		/**
 		 */
 		@Override
 		public void run() {
-			synchronized (LOCK) {
-				if (!refreshData.isEmpty()) {
-					final int count = refreshData.size();
-					for (int i = 0; i < count; i++) {
-						final RefreshData data = refreshData.get(i);
-						if (data != null) {
-							onRefreshProgress(data.id, data.progress, true);
-							data.recycle();
-						}
-					}
-					refreshData.clear();
-				}
-				updatePrivateFlags(PFLAG_REFRESH_PROGRESS_POSTED, false);
+			// Clear the posted flag first so any update received from now on posts this runnable again.
+			posted.set(false);
+			final int primary = progress.getAndSet(NO_PROGRESS);
+			if (primary != NO_PROGRESS) {
+				onRefreshProgress(android.R.id.progress, primary, true);
+			}
+			final int secondary = secondaryProgress.getAndSet(NO_PROGRESS);
+			if (secondary != NO_PROGRESS) {
+				onRefreshProgress(android.R.id.secondaryProgress, secondary, true);
 			}
 		}
 	}
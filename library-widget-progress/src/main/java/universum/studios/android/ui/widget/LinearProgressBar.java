@@ -450,11 +450,7 @@ public class LinearProgressBar extends BaseProgressBar<LinearProgressDrawable> {
 		switch (mMode) {
 			case MODE_BUFFER:
 			case MODE_QUERY_INDETERMINATE_DETERMINATE:
-				if (visible) {
-					startIndeterminate();
-				} else {
-					stopIndeterminateImmediate();
-				}
+				if (visible) startIndeterminate();
 				break;
 		}
 	}